@@ -0,0 +1,185 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.benchmarks;
+
+import com.google.gson.JsonElement;
+import io.vavr.collection.List;
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.onap.dcaegen2.services.sdk.model.streams.dmaap.ImmutableMessageRouterSink;
+import org.onap.dcaegen2.services.sdk.rest.services.adapters.http.test.DummyHttpServer;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.ContentType;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.api.DmaapClientFactory;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.api.MessageRouterPublisher;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.ImmutableMessageRouterPublishRequest;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.MessageRouterPublishRequest;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.MessageRouterPublishResponse;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config.ImmutableMessageRouterPublisherConfig;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config.TransportType;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link MessageRouterPublisher#put} publishing one batch per operation, to a {@link MockProducer} over
+ * Kafka or to a {@link DummyHttpServer} over HTTP.
+ *
+ * <p>The {@code records} counter reports records per second; with {@code -prof gc}, {@code gc.alloc.rate.norm}
+ * divided by {@code batchSize} gives the allocation per record.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class MessageRouterPublisherBenchmark {
+
+    private static final String TOPIC_PATH = "/events/BENCHMARK";
+
+    @Param({"KAFKA", "HTTP"})
+    private TransportType transport;
+
+    @Param({"1", "32", "512"})
+    private int batchSize;
+
+    @Param({"1024", "65536", "1048576"})
+    private int payloadSize;
+
+    @Param({"APPLICATION_JSON", "TEXT_PLAIN"})
+    private ContentType contentType;
+
+    private DummyHttpServer server;
+    private MessageRouterPublisher publisher;
+    private MessageRouterPublishRequest request;
+    private List<JsonElement> batch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = DummyHttpServer.start(routes -> routes.post(TOPIC_PATH,
+                (req, resp) -> req.receive().then().then(Mono.from(resp.sendString(Mono.just("{}"))))));
+        publisher = DmaapClientFactory.createMessageRouterPublisher(ImmutableMessageRouterPublisherConfig.builder()
+                .transport(transport)
+                .maxBatchSize(batchSize)
+                .maxBatchDuration(Duration.ofSeconds(1))
+                .build());
+        if (publisher == null) {
+            throw new IllegalStateException("Could not create the publisher, is BOOTSTRAP_SERVERS set?");
+        }
+        publisher.setRawKafkaProducer(new DiscardingProducer());
+        request = ImmutableMessageRouterPublishRequest.builder()
+                .sinkDefinition(ImmutableMessageRouterSink.builder()
+                        .name("BENCHMARK")
+                        .topicUrl(String.format("http://%s:%d%s", server.host(), server.port(), TOPIC_PATH))
+                        .build())
+                .contentType(contentType)
+                .build();
+        batch = Payloads.messages(contentType, payloadSize, batchSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        publisher.close();
+        server.close();
+    }
+
+    @Benchmark
+    public MessageRouterPublishResponse putBatch(Records records) {
+        return put(records);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public MessageRouterPublishResponse putBatchConcurrently(Records records) {
+        return put(records);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public MessageRouterPublishResponse putBatchLatency() {
+        return publisher.put(request, Flux.fromIterable(batch)).blockLast();
+    }
+
+    private MessageRouterPublishResponse put(Records records) {
+        final MessageRouterPublishResponse response = publisher.put(request, Flux.fromIterable(batch)).blockLast();
+        if (response == null || response.failed()) {
+            throw new IllegalStateException("Publishing failed: " + (response == null ? null : response.failReason()));
+        }
+        records.records += batchSize;
+        return response;
+    }
+
+    /**
+     * Number of published records, reported next to the number of batches.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Records {
+        public long records;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            records = 0;
+        }
+    }
+
+    /**
+     * Acknowledges every record at once and does not keep it, so that the history of sent records does not fill
+     * the heap.
+     */
+    private static final class DiscardingProducer extends MockProducer<String, byte[]> {
+
+        private DiscardingProducer() {
+            super(true, new StringSerializer(), new ByteArraySerializer());
+        }
+
+        @Override
+        public synchronized Future<RecordMetadata> send(ProducerRecord<String, byte[]> record, Callback callback) {
+            final Future<RecordMetadata> ack = super.send(record, callback);
+            clear();
+            return ack;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.benchmarks;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.onap.dcaegen2.services.sdk.model.streams.dmaap.ImmutableMessageRouterSource;
+import org.onap.dcaegen2.services.sdk.rest.services.adapters.http.test.DummyHttpServer;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.ContentType;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.api.DmaapClientFactory;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.api.MessageRouterSubscriber;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.ImmutableMessageRouterSubscribeRequest;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.MessageRouterSubscribeRequest;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.MessageRouterSubscribeResponse;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config.ImmutableMessageRouterSubscriberConfig;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config.TransportType;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.onap.dcaegen2.services.sdk.rest.services.adapters.http.test.DummyHttpServer.sendString;
+
+/**
+ * Measures {@link MessageRouterSubscriber#get} getting one batch per operation, from a {@link MockConsumer} over
+ * Kafka or from a {@link DummyHttpServer} over HTTP.
+ *
+ * <p>The {@code records} counter reports records per second; with {@code -prof gc}, {@code gc.alloc.rate.norm}
+ * divided by {@code batchSize} gives the allocation per record.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class MessageRouterSubscriberBenchmark {
+
+    private static final String TOPIC = "BENCHMARK";
+    private static final String TOPIC_PATH = "/events/" + TOPIC;
+    private static final String CONSUMER_GROUP = "benchmark-group";
+    private static final String CONSUMER_ID = "benchmark-id";
+    private static final TopicPartition PARTITION = new TopicPartition(TOPIC, 0);
+
+    @Param({"KAFKA", "HTTP"})
+    private TransportType transport;
+
+    @Param({"1", "32", "512"})
+    private int batchSize;
+
+    @Param({"1024", "65536", "1048576"})
+    private int payloadSize;
+
+    private DummyHttpServer server;
+    private MockConsumer<String, String> consumer;
+    private MessageRouterSubscriber subscriber;
+    private MessageRouterSubscribeRequest request;
+    private String message;
+    private long offset;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final String response = Payloads.subscribeResponse(payloadSize, batchSize);
+        server = DummyHttpServer.start(routes -> routes.get(
+                String.format("%s/%s/%s", TOPIC_PATH, CONSUMER_GROUP, CONSUMER_ID),
+                (req, resp) -> sendString(resp, Mono.just(response))));
+        subscriber = DmaapClientFactory.createMessageRouterSubscriber(ImmutableMessageRouterSubscriberConfig.builder()
+                .transport(transport)
+                .build());
+        if (subscriber == null) {
+            throw new IllegalStateException("Could not create the subscriber, is BOOTSTRAP_SERVERS set?");
+        }
+        consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        consumer.assign(Collections.singletonList(PARTITION));
+        consumer.updateBeginningOffsets(Collections.singletonMap(PARTITION, 0L));
+        subscriber.setConsumer(consumer);
+        request = ImmutableMessageRouterSubscribeRequest.builder()
+                .sourceDefinition(ImmutableMessageRouterSource.builder()
+                        .name(TOPIC)
+                        .topicUrl(String.format("http://%s:%d%s", server.host(), server.port(), TOPIC_PATH))
+                        .build())
+                .consumerGroup(CONSUMER_GROUP)
+                .consumerId(CONSUMER_ID)
+                .build();
+        message = Payloads.message(ContentType.APPLICATION_JSON, payloadSize).toString();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        subscriber.close();
+        server.close();
+    }
+
+    @Benchmark
+    public MessageRouterSubscribeResponse getBatch(Records records) {
+        return get(records);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public MessageRouterSubscribeResponse getBatchConcurrently(Records records) {
+        return get(records);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public MessageRouterSubscribeResponse getBatchLatency(Records records) {
+        return get(records);
+    }
+
+    private MessageRouterSubscribeResponse get(Records records) {
+        if (transport.usesKafka()) {
+            consumer.schedulePollTask(this::addBatch);
+        }
+        final MessageRouterSubscribeResponse response = subscriber.get(request).block();
+        if (response == null || response.failed()) {
+            throw new IllegalStateException("Getting failed: " + (response == null ? null : response.failReason()));
+        }
+        records.records += response.items().size();
+        return response;
+    }
+
+    /**
+     * Runs within the poll, under the lock of the consumer.
+     */
+    private void addBatch() {
+        for (int i = 0; i < batchSize; i++) {
+            consumer.addRecord(new ConsumerRecord<>(TOPIC, PARTITION.partition(), offset++, null, message));
+        }
+    }
+
+    /**
+     * Number of received records, reported next to the number of batches.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Records {
+        public long records;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            records = 0;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.benchmarks;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import io.vavr.collection.List;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.ContentType;
+
+/**
+ * Messages of a given size used by the benchmarks.
+ */
+final class Payloads {
+
+    private static final String MESSAGE_FIELD = "message";
+    private static final int JSON_OVERHEAD = "{\"message\":\"\"}".length();
+
+    private Payloads() {
+    }
+
+    /**
+     * @return message taking {@code size} bytes once serialized: a JSON object for {@link ContentType#APPLICATION_JSON},
+     *     a JSON string otherwise
+     */
+    static JsonElement message(ContentType contentType, int size) {
+        if (contentType == ContentType.APPLICATION_JSON) {
+            final JsonObject message = new JsonObject();
+            message.addProperty(MESSAGE_FIELD, text(size - JSON_OVERHEAD));
+            return message;
+        }
+        return new JsonPrimitive(text(size - 2));
+    }
+
+    static List<JsonElement> messages(ContentType contentType, int size, int count) {
+        final JsonElement message = message(contentType, size);
+        return List.fill(count, () -> message);
+    }
+
+    /**
+     * @return body of a DMaaP MR subscribe response, holding every message as a JSON string
+     */
+    static String subscribeResponse(int size, int count) {
+        final JsonArray response = new JsonArray(count);
+        final JsonPrimitive message = new JsonPrimitive(message(ContentType.APPLICATION_JSON, size).toString());
+        for (int i = 0; i < count; i++) {
+            response.add(message);
+        }
+        return response.toString();
+    }
+
+    private static String text(int length) {
+        return "x".repeat(Math.max(length, 0));
+    }
+}
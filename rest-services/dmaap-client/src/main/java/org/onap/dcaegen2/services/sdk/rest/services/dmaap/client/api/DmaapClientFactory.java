@@ -20,8 +20,10 @@
  */
 package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.api;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import io.vavr.control.Option;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.onap.dcaegen2.services.sdk.rest.services.adapters.http.RxHttpClient;
 import org.onap.dcaegen2.services.sdk.rest.services.adapters.http.RxHttpClientFactory;
 import org.onap.dcaegen2.services.sdk.rest.services.adapters.http.config.ConnectionPoolConfig;
@@ -55,13 +57,31 @@ public final class DmaapClientFactory {
 
     public static @NotNull MessageRouterPublisher createMessageRouterPublisher(
             @NotNull MessageRouterPublisherConfig clientConfiguration) {
+        return createMessageRouterPublisher(clientConfiguration, null);
+    }
+
+    /**
+     * Creates a publisher recording its meters (records, bytes and batches sent, send latencies, failures, in-flight
+     * records and producer buffer utilization) in the given registry, typically the one created by the MoHeR
+     * {@code MetricsFactory.createDefaultRegistry()}.
+     *
+     * <p>Counters and timers of publishers sharing a registry are aggregated, while gauges report the publisher
+     * which registered them first.</p>
+     *
+     * <p>When the DMaaP MR is reached over HTTP with a {@code connectionPoolConfig}, the gauges of the connection
+     * pool are registered as well.</p>
+     *
+     * @since 1.9.5
+     */
+    public static @NotNull MessageRouterPublisher createMessageRouterPublisher(
+            @NotNull MessageRouterPublisherConfig clientConfiguration, @Nullable MeterRegistry meterRegistry) {
 
         try {
             return new MessageRouterPublisherImpl(
-                createHttpClient(clientConfiguration),
-                clientConfiguration.maxBatchSize(),
-                clientConfiguration.maxBatchDuration(),
-                new ClientErrorReasonPresenter());
+                createHttpClientIfUsed(clientConfiguration, meterRegistry),
+                clientConfiguration,
+                new ClientErrorReasonPresenter(),
+                meterRegistry);
         } catch (Exception e) {
             LOGGER.error("Error while creating the Message Router Publisher.");
             return null;
@@ -70,11 +90,24 @@ public final class DmaapClientFactory {
 
     public static @NotNull MessageRouterSubscriber createMessageRouterSubscriber(
             @NotNull MessageRouterSubscriberConfig clientConfiguration) {
+        return createMessageRouterSubscriber(clientConfiguration, null);
+    }
+
+    /**
+     * Creates a subscriber recording its meters (records and bytes received, poll durations, consumer lag per
+     * partition and failures) in the given registry, typically the one created by the MoHeR
+     * {@code MetricsFactory.createDefaultRegistry()}. Connection pool gauges are recorded as for the publisher.
+     *
+     * @since 1.9.5
+     */
+    public static @NotNull MessageRouterSubscriber createMessageRouterSubscriber(
+            @NotNull MessageRouterSubscriberConfig clientConfiguration, @Nullable MeterRegistry meterRegistry) {
         try {
             return new MessageRouterSubscriberImpl(
-                    createHttpClient(clientConfiguration),
-                    clientConfiguration.gsonInstance(),
-                    new ClientErrorReasonPresenter());
+                    createHttpClientIfUsed(clientConfiguration, meterRegistry),
+                    clientConfiguration,
+                    new ClientErrorReasonPresenter(),
+                    meterRegistry);
         } catch (Exception e) {
             LOGGER.error("Error while creating the Message Router Subscriber.");
             return null;
@@ -82,9 +115,18 @@ public final class DmaapClientFactory {
        
     }
 
-    private static @NotNull RxHttpClient createHttpClient(DmaapClientConfiguration config) {
+    /**
+     * The HTTP client is needed only to reach the DMaaP MR, see {@link DmaapClientConfiguration#transport()}.
+     */
+    private static RxHttpClient createHttpClientIfUsed(DmaapClientConfiguration config,
+            @Nullable MeterRegistry meterRegistry) {
+        return config.transport().usesHttp() ? createHttpClient(config, meterRegistry) : null;
+    }
+
+    private static @NotNull RxHttpClient createHttpClient(DmaapClientConfiguration config,
+            @Nullable MeterRegistry meterRegistry) {
         RxHttpClientConfig clientConfig = ImmutableRxHttpClientConfig.builder()
-                .connectionPool(createConnectionPool(config))
+                .connectionPool(createConnectionPool(config, meterRegistry))
                 .retryConfig(createRetry(config))
                 .build();
         return config.securityKeys() == null
@@ -103,12 +145,18 @@ public final class DmaapClientFactory {
                 .getOrNull();
     }
 
-    private static ConnectionPoolConfig createConnectionPool(DmaapClientConfiguration config){
+    private static ConnectionPoolConfig createConnectionPool(DmaapClientConfiguration config,
+            @Nullable MeterRegistry meterRegistry){
         return Option.of(config.connectionPoolConfig())
                 .map(cp -> ImmutableConnectionPoolConfig.builder()
                         .connectionPool(cp.connectionPool())
                         .maxIdleTime(Duration.ofSeconds(cp.maxIdleTime()))
                         .maxLifeTime(Duration.ofSeconds(cp.maxLifeTime()))
+                        .pendingAcquireMaxCount(cp.pendingAcquireMaxCount())
+                        .pendingAcquireTimeout(Option.of(cp.pendingAcquireTimeout())
+                                .map(Duration::ofSeconds)
+                                .getOrNull())
+                        .meterRegistry(meterRegistry)
                         .build())
                 .getOrNull();
     }
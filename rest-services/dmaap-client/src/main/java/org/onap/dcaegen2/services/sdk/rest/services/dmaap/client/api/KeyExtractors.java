@@ -0,0 +1,91 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.api;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Built-in extractors of record keys, to be used as {@code MessageRouterPublishRequest.keyExtractor()}.
+ *
+ * @since 1.9.5
+ */
+public final class KeyExtractors {
+
+    private KeyExtractors() {
+    }
+
+    /**
+     * Uses the value pointed by the JSON pointer (RFC 6901), for example {@code /event/commonEventHeader/sourceName},
+     * as the key. Items without the value are published without a key.
+     *
+     * @throws IllegalArgumentException when the pointer is neither empty nor starts with {@code /}
+     */
+    public static Function<JsonElement, String> jsonPointer(String pointer) {
+        final List<String> tokens = parse(pointer);
+        return item -> {
+            JsonElement current = item;
+            for (String token : tokens) {
+                current = child(current, token);
+                if (current == null || current.isJsonNull()) {
+                    return null;
+                }
+            }
+            return current.isJsonPrimitive() ? current.getAsString() : current.toString();
+        };
+    }
+
+    private static List<String> parse(String pointer) {
+        if (!pointer.isEmpty() && !pointer.startsWith("/")) {
+            throw new IllegalArgumentException("Invalid JSON pointer: " + pointer);
+        }
+        final List<String> tokens = new ArrayList<>();
+        if (!pointer.isEmpty()) {
+            for (String token : pointer.substring(1).split("/", -1)) {
+                tokens.add(token.replace("~1", "/").replace("~0", "~"));
+            }
+        }
+        return tokens;
+    }
+
+    private static JsonElement child(JsonElement parent, String token) {
+        if (parent.isJsonObject()) {
+            final JsonObject object = parent.getAsJsonObject();
+            return object.get(token);
+        }
+        if (parent.isJsonArray()) {
+            final JsonArray array = parent.getAsJsonArray();
+            try {
+                final int index = Integer.parseInt(token);
+                return index >= 0 && index < array.size() ? array.get(index) : null;
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
@@ -26,6 +26,7 @@ import com.google.gson.JsonElement;
 import io.vavr.collection.List;
 
 import java.util.Properties;
+import java.util.function.Function;
 
 import org.apache.kafka.clients.producer.Producer;
 import org.onap.dcaegen2.services.sdk.model.streams.dmaap.KafkaSink;
@@ -40,5 +41,95 @@ import reactor.core.publisher.Flux;
 public interface MessageRouterPublisher {
     void close();
     void setKafkaProducer(Producer<String, String> kafkaProducer);
+
+    /**
+     * Makes this publisher use the given producer of encoded payloads, see
+     * {@link #put(MessageRouterPublishRequest, Flux, PayloadSerializer)}.
+     *
+     * @param kafkaProducer producer of the encoded payloads
+     * @since 1.9.5
+     */
+    default void setRawKafkaProducer(Producer<String, byte[]> kafkaProducer) {
+        throw new UnsupportedOperationException("Publishing encoded payloads is not supported");
+    }
+
     Flux<MessageRouterPublishResponse> put(MessageRouterPublishRequest request, Flux<? extends JsonElement> items);
+
+    /**
+     * Publishes items encoded by the given serializer, without converting them to JSON trees first.
+     *
+     * <p>Batching works the same way as for {@link #put(MessageRouterPublishRequest, Flux)}, but the responses only
+     * carry the number of published items in {@link MessageRouterPublishResponse#itemsCount()}.</p>
+     *
+     * <p>The items are published without a key. The {@link MessageRouterPublishRequest#keyExtractor()} of the
+     * request applies to JSON trees only, so a request having one is rejected; use
+     * {@link #put(MessageRouterPublishRequest, Flux, PayloadSerializer, Function)} to publish keyed items.</p>
+     *
+     * @param request describes the topic to publish to
+     * @param items items to publish
+     * @param serializer encodes every item into the payload of a single record
+     * @param <T> type of the published items
+     * @return a response per published batch; errors with {@link IllegalArgumentException} when the request has a
+     *     key extractor
+     * @since 1.9.5
+     */
+    default <T> Flux<MessageRouterPublishResponse> put(MessageRouterPublishRequest request, Flux<? extends T> items,
+                                                       PayloadSerializer<? super T> serializer) {
+        return Flux.error(new UnsupportedOperationException("Publishing encoded payloads is not supported"));
+    }
+
+    /**
+     * Publishes items encoded by the given serializer like {@link #put(MessageRouterPublishRequest, Flux,
+     * PayloadSerializer)}, using the given extractor instead of the one of the request for the record keys.
+     *
+     * @param request describes the topic to publish to
+     * @param items items to publish
+     * @param serializer encodes every item into the payload of a single record
+     * @param keyExtractor extracts the record key of an item, items for which it returns {@code null} are published
+     *     without a key
+     * @param <T> type of the published items
+     * @return a response per published batch
+     * @since 1.9.5
+     */
+    default <T> Flux<MessageRouterPublishResponse> put(MessageRouterPublishRequest request, Flux<? extends T> items,
+                                                       PayloadSerializer<? super T> serializer,
+                                                       Function<? super T, String> keyExtractor) {
+        return Flux.error(new UnsupportedOperationException("Publishing keyed encoded payloads is not supported"));
+    }
+
+    /**
+     * @return total size of the payloads published so far, before compression, 0 when it is not tracked
+     * @since 1.9.5
+     */
+    default long bytesIn() {
+        return 0;
+    }
+
+    /**
+     * Bytes sent so far, after compression. For Kafka this is the outgoing traffic of the producer, including
+     * protocol overhead, which is shared by all publishers with the same configuration.
+     *
+     * @return total number of bytes sent, 0 when it is not tracked
+     * @since 1.9.5
+     */
+    default long bytesOut() {
+        return 0;
+    }
+
+    /**
+     * @return number of records handed to this publisher and not yet acknowledged, 0 when it is not tracked
+     * @since 1.9.5
+     */
+    default long inFlightRecords() {
+        return 0;
+    }
+
+    /**
+     * @return total size of the payloads of records handed to this publisher and not yet acknowledged, 0 when it
+     *     is not tracked
+     * @since 1.9.5
+     */
+    default long inFlightBytes() {
+        return 0;
+    }
 }
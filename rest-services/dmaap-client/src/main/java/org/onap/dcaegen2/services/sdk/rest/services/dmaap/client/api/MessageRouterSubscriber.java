@@ -26,12 +26,16 @@ import com.google.gson.JsonElement;
 import io.vavr.collection.List;
 
 import java.time.Duration;
+import java.util.function.Function;
 
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.onap.dcaegen2.services.sdk.model.streams.dmaap.KafkaSource;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.AcknowledgeableElement;
 import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.MessageRouterSubscribeRequest;
 import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.MessageRouterSubscribeResponse;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.RawMessage;
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -59,5 +63,84 @@ public interface MessageRouterSubscriber {
     default Flux<JsonElement> subscribeForElements(MessageRouterSubscribeRequest request, Duration period) {
         return Flux.interval(period).concatMap(i->getElements(request));
     }
+
+    /**
+     * Opens a long-lived subscription which emits elements as soon as they are consumed, without polling on
+     * an interval.
+     *
+     * <p>Consumption follows downstream demand: when downstream cannot keep up, consumption of the topic is paused
+     * until buffered elements are processed. Every subscription to the returned Flux uses its own consumer, which
+     * is closed when the subscription is cancelled.</p>
+     *
+     * <p>Implementations without long-lived subscriptions poll the topic again as soon as the previous poll
+     * completes.</p>
+     *
+     * @param request describes the topic, the consumer group and the consumer id
+     * @return infinite Flux of consumed elements; errors when the topic does not exist or consumption fails
+     * @since 1.9.5
+     */
+    default Flux<JsonElement> subscribeForElements(MessageRouterSubscribeRequest request) {
+        return Flux.defer(() -> getElements(request)).repeat();
+    }
+
+    /**
+     * Opens a long-lived subscription like {@link #subscribeForElements(MessageRouterSubscribeRequest)}, but with
+     * auto-commit disabled and offsets committed only for acknowledged elements.
+     *
+     * <p>Offsets are committed asynchronously in batches, so each element should be
+     * {@link AcknowledgeableElement#acknowledge() acknowledged} once it has been processed. Elements which were not
+     * acknowledged before the subscription is cancelled or its partitions are reassigned are consumed again.</p>
+     *
+     * @param request describes the topic, the consumer group and the consumer id
+     * @return infinite Flux of consumed elements with their partition and offset
+     * @since 1.9.5
+     */
+    default Flux<AcknowledgeableElement> subscribeForAcknowledgeableElements(MessageRouterSubscribeRequest request) {
+        return Flux.error(new UnsupportedOperationException("Acknowledging elements is not supported"));
+    }
+
+    /**
+     * Opens a long-lived subscription like {@link #subscribeForAcknowledgeableElements(MessageRouterSubscribeRequest)},
+     * which processes the consumed elements in parallel instead of emitting them.
+     *
+     * <p>Up to {@code processingParallelism} elements are processed at once. Elements of the same partition, or with
+     * the same key depending on the {@code processingOrder} of the subscriber configuration, are processed one after
+     * another in the order they were published. An element is acknowledged once the publisher returned by the
+     * processor for it completes, and offsets are committed only up to the first element which has not been
+     * processed yet.</p>
+     *
+     * @param request describes the topic, the consumer group and the consumer id
+     * @param processor processes a single element
+     * @return infinite Flux of the results of the processor; errors when the processing of an element fails
+     * @since 1.9.5
+     */
+    default <R> Flux<R> subscribeForElementsInParallel(MessageRouterSubscribeRequest request,
+            Function<? super JsonElement, ? extends Publisher<? extends R>> processor) {
+        return Flux.error(new UnsupportedOperationException("Processing elements in parallel is not supported"));
+    }
+
+    /**
+     * Polls the topic once like {@link #getElements(MessageRouterSubscribeRequest)}, but without decoding the
+     * consumed messages.
+     *
+     * @param request describes the topic, the consumer group and the consumer id
+     * @return consumed messages; errors when the topic does not exist or consumption fails
+     * @since 1.9.5
+     */
+    default Flux<RawMessage> getRawElements(MessageRouterSubscribeRequest request) {
+        return Flux.error(new UnsupportedOperationException("Consuming raw messages is not supported"));
+    }
+
+    /**
+     * Opens a long-lived subscription like {@link #subscribeForElements(MessageRouterSubscribeRequest)}, but
+     * without decoding the consumed messages.
+     *
+     * @param request describes the topic, the consumer group and the consumer id
+     * @return infinite Flux of consumed messages; errors when the topic does not exist or consumption fails
+     * @since 1.9.5
+     */
+    default Flux<RawMessage> subscribeForRawElements(MessageRouterSubscribeRequest request) {
+        return Flux.error(new UnsupportedOperationException("Consuming raw messages is not supported"));
+    }
     
 }
@@ -0,0 +1,110 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.api;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.google.gson.JsonElement;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Built-in {@link PayloadSerializer}s.
+ *
+ * @since 1.9.5
+ */
+public final class PayloadSerializers {
+
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private PayloadSerializers() {
+    }
+
+    /**
+     * Writes the JSON text of a Gson tree, the same way as {@link MessageRouterPublisher#put} does by default.
+     */
+    public static PayloadSerializer<JsonElement> gson() {
+        return item -> item.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Passes already encoded payloads through without copying them.
+     */
+    public static PayloadSerializer<byte[]> bytes() {
+        return item -> item;
+    }
+
+    /**
+     * Passes already encoded payloads through. The remaining bytes of the buffer are copied only when they are not
+     * exactly its whole backing array. The position of the buffer is not changed.
+     */
+    public static PayloadSerializer<ByteBuffer> byteBuffer() {
+        return item -> {
+            if (item.hasArray() && item.arrayOffset() == 0 && item.position() == 0
+                    && item.remaining() == item.array().length) {
+                return item.array();
+            }
+            final byte[] payload = new byte[item.remaining()];
+            item.duplicate().get(payload);
+            return payload;
+        };
+    }
+
+    /**
+     * Streams items with a Jackson {@link JsonGenerator} into a per-thread buffer which is reused between items, so
+     * no intermediate JSON tree or String is built.
+     */
+    public static <T> PayloadSerializer<T> jackson(JsonStreamWriter<? super T> writer) {
+        return jackson(JSON_FACTORY, writer);
+    }
+
+    public static <T> PayloadSerializer<T> jackson(JsonFactory factory, JsonStreamWriter<? super T> writer) {
+        final ThreadLocal<ByteArrayOutputStream> buffers =
+                ThreadLocal.withInitial(() -> new ByteArrayOutputStream(INITIAL_BUFFER_SIZE));
+        return item -> {
+            final ByteArrayOutputStream buffer = buffers.get();
+            buffer.reset();
+            try (JsonGenerator generator = factory.createGenerator(buffer, JsonEncoding.UTF8)) {
+                writer.write(item, generator);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return buffer.toByteArray();
+        };
+    }
+
+    /**
+     * Writes a single item as JSON.
+     *
+     * @param <T> type of the written items
+     */
+    @FunctionalInterface
+    public interface JsonStreamWriter<T> {
+        void write(T item, JsonGenerator generator) throws IOException;
+    }
+}
@@ -25,7 +25,6 @@ import io.vavr.Tuple;
 import io.vavr.Tuple2;
 import io.vavr.control.Option;
 
-import org.apache.kafka.clients.admin.AdminClient;
 import org.onap.dcaegen2.services.sdk.model.streams.AafCredentials;
 import org.onap.dcaegen2.services.sdk.rest.services.adapters.http.HttpResponse;
 import org.slf4j.Logger;
@@ -37,7 +36,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author <a href="mailto:piotr.jaszczyk@nokia.com">Piotr Jaszczyk</a>
@@ -45,22 +44,11 @@ import java.util.concurrent.ExecutionException;
  */
 public final class Commons {
     static String commonInURL = "/events/";
-    static String KAFKA_PROPS_PREFIX = "kafka.";
 
     private static final Logger LOGGER = LoggerFactory.getLogger(Commons.class);
-    private static AdminClient kafkaAdminClient;
-    private static Map<String,Object> map = new HashMap<>();
+    private static final Map<Map<Object, Object>, KafkaTopicMetadataCachePool.Lease> TOPIC_METADATA =
+            new ConcurrentHashMap<>();
 
-    static {
-        map.put("key.serializer", "org.apache.kafka.common.serialization.StringSerializer");
-        map.put("value.serializer", "org.apache.kafka.common.serialization.StringSerializer");
-        map.put("key.deserializer", "org.apache.kafka.common.serialization.StringDeserializer");
-        map.put("value.deserializer", "org.apache.kafka.common.serialization.StringDeserializer");
-        map.put("max.poll.interval.ms", 300000);
-        map.put("heartbeat.interval.ms", 60000);
-        map.put("session.timeout.ms", 240000);
-        map.put("max.poll.records", 1000);
-    }
     private Commons() {
     }
 
@@ -107,11 +95,16 @@ public final class Commons {
         return  topicUrl.substring(topicUrl.indexOf(commonInURL)+commonInURL.length());
     }
     
+    /**
+     * Builds the Kafka client properties from the given {@code kafka.*} variables on top of the SDK defaults.
+     *
+     * <p>The clients read the environment once for all instances, see {@code KafkaClientConfig}.</p>
+     */
     public static Properties setKafkaPropertiesFromSystemEnv(Map<String, String> envs) {
         Map<String, Object> propMap= getKafkaPropertiesMap(envs);
         Properties props = new Properties();
         propMap.forEach((k ,v) -> props.put(k, v));
-        map.forEach((k,v) -> {
+        KafkaClientProperties.defaults().forEach((k,v) -> {
             if(!propMap.containsKey(k)) {
                 props.put(k, v);
             }
@@ -121,40 +114,36 @@ public final class Commons {
     }
     
     static Map<String, Object> getKafkaPropertiesMap(Map<String, String> envs){
-        Map<String, Object> propMap = new HashMap<>();
-        envs.forEach((k ,v) -> {
-            if(k.startsWith(KAFKA_PROPS_PREFIX)){
-                String key = k.substring(KAFKA_PROPS_PREFIX.length());
-                propMap.put(key, v);
-            }
-        });
-        return propMap;
+        return new HashMap<>(KafkaClientProperties.prefixedProperties(envs));
     }
 
+    /**
+     * Releases the topic metadata caches kept for the checks done through
+     * {@link #checkIfTopicIsPresentInKafka(String, Properties)}. The admin client of a cluster is closed once no
+     * subscriber of that cluster is open either.
+     */
     public static void closeKafkaAdminClient() {
-        if(kafkaAdminClient != null) {
-            LOGGER.info("Closing the Kafka AdminClient.");
-            kafkaAdminClient.close();
-            kafkaAdminClient=null;
+        for (Map<Object, Object> key : TOPIC_METADATA.keySet()) {
+            final KafkaTopicMetadataCachePool.Lease lease = TOPIC_METADATA.remove(key);
+            if (lease != null) {
+                lease.close();
+            }
         }
     }
 
+    /**
+     * Checks whether the topic exists in the Kafka cluster given by the admin properties.
+     *
+     * <p>Results are cached for a few minutes and refreshed in the background, so only the first check of a topic
+     * queries the cluster. The cache of a cluster is shared with its subscribers and kept until
+     * {@link #closeKafkaAdminClient()} is called.</p>
+     */
     public static boolean checkIfTopicIsPresentInKafka(String topic, Properties adminProps) {
-        if(kafkaAdminClient == null) {
-            kafkaAdminClient = AdminClient.create(adminProps);
-        }
-        try {
-            for (String name : kafkaAdminClient.listTopics().names().get()) {
-                if (name.equals(topic)) {
-                    LOGGER.debug("TOPIC_NAME: {} is equal to : {}", name, topic);
-                    return true;
-                }
-            }
-        } catch (InterruptedException | ExecutionException e) {
-            LOGGER.error("GetTopicFromKafka: Failed to retrieve topic list from kafka.", e);
-            return false;
-        }
-        return false;
+        final KafkaTopicMetadataCachePool.Lease lease = TOPIC_METADATA.computeIfAbsent(Map.copyOf(adminProps),
+                key -> KafkaTopicMetadataCachePool.instance().acquire(adminProps));
+        final boolean present = lease.cache().topicExists(topic);
+        LOGGER.debug("TOPIC_NAME: {} present in kafka : {}", topic, present);
+        return present;
     }
     
 }
@@ -0,0 +1,78 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends records which could not be published to a local file.
+ *
+ * <p>Every record is written as a frame of big-endian length prefixed fields: topic, key (length {@code -1} when
+ * absent), payload and failure reason. The file is opened and closed for every append, dead-lettering is expected
+ * to be rare.</p>
+ */
+final class DeadLetterFile {
+
+    private static final int NULL_LENGTH = -1;
+
+    private final Path path;
+
+    DeadLetterFile(Path path) {
+        this.path = path;
+    }
+
+    synchronized void append(String topic, String key, byte[] payload, String reason) throws IOException {
+        final byte[] topicBytes = topic.getBytes(StandardCharsets.UTF_8);
+        final byte[] keyBytes = key == null ? null : key.getBytes(StandardCharsets.UTF_8);
+        final byte[] reasonBytes = String.valueOf(reason).getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer frame = ByteBuffer.allocate(4 * Integer.BYTES + topicBytes.length
+                + (keyBytes == null ? 0 : keyBytes.length) + payload.length + reasonBytes.length);
+        putField(frame, topicBytes);
+        putField(frame, keyBytes);
+        putField(frame, payload);
+        putField(frame, reasonBytes);
+        frame.flip();
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (frame.hasRemaining()) {
+                channel.write(frame);
+            }
+        }
+    }
+
+    Path path() {
+        return path;
+    }
+
+    private static void putField(ByteBuffer frame, byte[] field) {
+        if (field == null) {
+            frame.putInt(NULL_LENGTH);
+        } else {
+            frame.putInt(field.length).put(field);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.impl;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Limits the number and the total size of records handed to a publisher and not yet acknowledged.
+ *
+ * <p>{@link #acquire(int)} completes only when the record fits into the window, so chaining it into the publishing
+ * pipeline turns a full window into backpressure instead of blocking a thread. Records are admitted in the order
+ * in which they asked for it. A record larger than the whole window is admitted once the window is empty.</p>
+ */
+final class InFlightWindow {
+
+    private final int maxRecords;
+    private final long maxBytes;
+    private final Queue<Waiter> waiters = new ArrayDeque<>();
+    private int records;
+    private long bytes;
+
+    InFlightWindow(int maxRecords, long maxBytes) {
+        this.maxRecords = maxRecords;
+        this.maxBytes = maxBytes;
+    }
+
+    Mono<Void> acquire(int size) {
+        return Mono.create(sink -> {
+            final Waiter waiter = new Waiter(size, sink);
+            synchronized (this) {
+                if (!waiters.isEmpty() || !fits(size)) {
+                    waiters.add(waiter);
+                    sink.onCancel(() -> cancel(waiter));
+                    return;
+                }
+                waiter.granted.set(true);
+                take(size);
+            }
+            sink.success();
+        });
+    }
+
+    void release(int size) {
+        final List<Waiter> admitted = new ArrayList<>();
+        synchronized (this) {
+            records--;
+            bytes -= size;
+            while (!waiters.isEmpty() && fits(waiters.peek().size)) {
+                final Waiter waiter = waiters.poll();
+                if (waiter.granted.compareAndSet(false, true)) {
+                    take(waiter.size);
+                    admitted.add(waiter);
+                }
+            }
+        }
+        admitted.forEach(waiter -> waiter.sink.success());
+    }
+
+    synchronized int records() {
+        return records;
+    }
+
+    synchronized long bytes() {
+        return bytes;
+    }
+
+    private void cancel(Waiter waiter) {
+        if (waiter.granted.compareAndSet(false, true)) {
+            synchronized (this) {
+                waiters.remove(waiter);
+            }
+        } else {
+            release(waiter.size);
+        }
+    }
+
+    private boolean fits(int size) {
+        return records == 0 || records < maxRecords && bytes + size <= maxBytes;
+    }
+
+    private void take(int size) {
+        records++;
+        bytes += size;
+    }
+
+    private static final class Waiter {
+        private final int size;
+        private final MonoSink<Void> sink;
+        private final AtomicBoolean granted = new AtomicBoolean();
+
+        private Waiter(int size, MonoSink<Void> sink) {
+            this.size = size;
+            this.sink = sink;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.impl;
+
+import org.apache.kafka.clients.CommonClientConfigs;
+import org.apache.kafka.common.config.SaslConfigs;
+import org.apache.kafka.common.security.auth.SecurityProtocol;
+import org.apache.kafka.common.security.scram.internals.ScramMechanism;
+import org.jetbrains.annotations.Nullable;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config.ImmutableKafkaClientConfig;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config.KafkaClientConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Kafka client properties of a {@link KafkaClientConfig}.
+ *
+ * <p>They are computed once per configuration, and the configuration read from the environment is read only once,
+ * so creating short-lived clients does not scan the environment again. Every client gets its own copy of the
+ * properties.</p>
+ */
+final class KafkaClientProperties {
+
+    static final String BOOTSTRAP_SERVERS_ENV = "BOOTSTRAP_SERVERS";
+    static final String JAAS_CONFIG_ENV = "JAAS_CONFIG";
+    static final String PROPERTY_ENV_PREFIX = "kafka.";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(KafkaClientProperties.class);
+    private static final Map<String, Object> DEFAULTS = Map.of(
+            "key.serializer", "org.apache.kafka.common.serialization.StringSerializer",
+            "value.serializer", "org.apache.kafka.common.serialization.StringSerializer",
+            "key.deserializer", "org.apache.kafka.common.serialization.StringDeserializer",
+            "value.deserializer", "org.apache.kafka.common.serialization.StringDeserializer",
+            "max.poll.interval.ms", 300000,
+            "heartbeat.interval.ms", 60000,
+            "session.timeout.ms", 240000,
+            "max.poll.records", 1000);
+    private static KafkaClientProperties fromEnvironment;
+
+    private final Map<String, Object> client;
+    private final Map<String, Object> admin;
+
+    private KafkaClientProperties(KafkaClientConfig config) {
+        final Map<String, Object> security = securityProperties(config);
+        final Map<String, Object> clientProps = new HashMap<>(DEFAULTS);
+        clientProps.putAll(config.properties());
+        clientProps.put(CommonClientConfigs.BOOTSTRAP_SERVERS_CONFIG, config.bootstrapServers());
+        clientProps.putAll(security);
+        final Map<String, Object> adminProps = new HashMap<>(security);
+        adminProps.put(CommonClientConfigs.BOOTSTRAP_SERVERS_CONFIG, config.bootstrapServers());
+        this.client = Collections.unmodifiableMap(clientProps);
+        this.admin = Collections.unmodifiableMap(adminProps);
+    }
+
+    /**
+     * @param config the client configuration, or {@code null} to use the one read from the environment
+     * @throws IllegalStateException when the configuration is read from an environment lacking bootstrap servers
+     */
+    static KafkaClientProperties of(@Nullable KafkaClientConfig config) {
+        return config == null ? fromEnvironment() : new KafkaClientProperties(config);
+    }
+
+    static synchronized KafkaClientProperties fromEnvironment() {
+        if (fromEnvironment == null) {
+            fromEnvironment = new KafkaClientProperties(configFromEnvironment(System.getenv()));
+        }
+        return fromEnvironment;
+    }
+
+    static KafkaClientConfig configFromEnvironment(Map<String, String> envs) {
+        final String bootstrapServers = envs.get(BOOTSTRAP_SERVERS_ENV);
+        if (bootstrapServers == null) {
+            LOGGER.error("Environment Variable {} is missing", BOOTSTRAP_SERVERS_ENV);
+            throw new IllegalStateException("Environment Variable " + BOOTSTRAP_SERVERS_ENV + " is missing");
+        }
+        return ImmutableKafkaClientConfig.builder()
+                .bootstrapServers(bootstrapServers)
+                .jaasConfig(envs.get(JAAS_CONFIG_ENV))
+                .properties(prefixedProperties(envs))
+                .build();
+    }
+
+    static Map<String, String> prefixedProperties(Map<String, String> envs) {
+        final Map<String, String> properties = new HashMap<>();
+        envs.forEach((k, v) -> {
+            if (k.startsWith(PROPERTY_ENV_PREFIX)) {
+                properties.put(k.substring(PROPERTY_ENV_PREFIX.length()), v);
+            }
+        });
+        return properties;
+    }
+
+    static Map<String, Object> defaults() {
+        return DEFAULTS;
+    }
+
+    Properties clientProperties() {
+        final Properties props = new Properties();
+        props.putAll(client);
+        return props;
+    }
+
+    Properties adminProperties() {
+        final Properties props = new Properties();
+        props.putAll(admin);
+        return props;
+    }
+
+    private static Map<String, Object> securityProperties(KafkaClientConfig config) {
+        if (config.jaasConfig() == null) {
+            LOGGER.info("Not using any authentication for kafka interaction");
+            return Collections.emptyMap();
+        }
+        LOGGER.info("Using {} authentication provided for kafka interaction",
+                ScramMechanism.SCRAM_SHA_512.mechanismName());
+        return Map.of(
+                CommonClientConfigs.SECURITY_PROTOCOL_CONFIG, SecurityProtocol.SASL_PLAINTEXT.name,
+                SaslConfigs.SASL_MECHANISM, ScramMechanism.SCRAM_SHA_512.mechanismName(),
+                SaslConfigs.SASL_JAAS_CONFIG, config.jaasConfig());
+    }
+}
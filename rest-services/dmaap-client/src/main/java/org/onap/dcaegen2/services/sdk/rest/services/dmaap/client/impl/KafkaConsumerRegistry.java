@@ -0,0 +1,207 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.impl;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Consumers of a single subscriber, one per (topic, consumer group, consumer id).
+ *
+ * <p>Different keys are served in parallel, while calls for the same key are serialized because a Kafka consumer
+ * must not be used by many threads at once. Consumers not used for longer than the idle timeout are closed on
+ * the next access to the registry.</p>
+ *
+ * @param <V> type of the record values
+ */
+final class KafkaConsumerRegistry<V> implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(KafkaConsumerRegistry.class);
+
+    private final Function<ConsumerKey, ? extends Consumer<String, V>> consumerFactory;
+    private final Duration idleTimeout;
+    private final Clock clock;
+    private final Map<ConsumerKey, Entry> consumers = new HashMap<>();
+
+    KafkaConsumerRegistry(Function<ConsumerKey, ? extends Consumer<String, V>> consumerFactory,
+                          Duration idleTimeout) {
+        this(consumerFactory, idleTimeout, Clock.systemUTC());
+    }
+
+    KafkaConsumerRegistry(Function<ConsumerKey, ? extends Consumer<String, V>> consumerFactory,
+                          Duration idleTimeout, Clock clock) {
+        this.consumerFactory = consumerFactory;
+        this.idleTimeout = idleTimeout;
+        this.clock = clock;
+    }
+
+    synchronized boolean contains(ConsumerKey key) {
+        return consumers.containsKey(key);
+    }
+
+    synchronized int size() {
+        return consumers.size();
+    }
+
+    /**
+     * Runs the action with the consumer registered for the key, creating and subscribing it when needed.
+     */
+    <T> T withConsumer(ConsumerKey key, Function<Consumer<String, V>, T> action) {
+        final Entry entry = acquire(key);
+        try {
+            synchronized (entry) {
+                return action.apply(entry.consumer);
+            }
+        } finally {
+            release(entry);
+        }
+    }
+
+    private Entry acquire(ConsumerKey key) {
+        final List<Entry> evicted;
+        final Entry entry;
+        synchronized (this) {
+            evicted = removeIdle();
+            entry = consumers.computeIfAbsent(key, this::createEntry);
+            entry.users++;
+        }
+        closeAll(evicted);
+        return entry;
+    }
+
+    private synchronized void release(Entry entry) {
+        entry.users--;
+        entry.lastUsed = clock.instant();
+    }
+
+    private Entry createEntry(ConsumerKey key) {
+        LOGGER.info("Creating Kafka Consumer for {}", key);
+        final Consumer<String, V> consumer = consumerFactory.apply(key);
+        consumer.subscribe(Collections.singletonList(key.topic()));
+        return new Entry(key, consumer);
+    }
+
+    private List<Entry> removeIdle() {
+        final Instant idleSince = clock.instant().minus(idleTimeout);
+        final List<Entry> evicted = new ArrayList<>();
+        for (Iterator<Entry> it = consumers.values().iterator(); it.hasNext(); ) {
+            final Entry entry = it.next();
+            if (entry.users == 0 && entry.lastUsed.isBefore(idleSince)) {
+                LOGGER.info("Evicting Kafka Consumer for {} idle since {}", entry.key, entry.lastUsed);
+                it.remove();
+                evicted.add(entry);
+            }
+        }
+        return evicted;
+    }
+
+    @Override
+    public void close() {
+        final List<Entry> all;
+        synchronized (this) {
+            all = new ArrayList<>(consumers.values());
+            consumers.clear();
+        }
+        closeAll(all);
+    }
+
+    private void closeAll(List<Entry> entries) {
+        for (Entry entry : entries) {
+            synchronized (entry) {
+                entry.consumer.close();
+            }
+        }
+    }
+
+    private final class Entry {
+        private final ConsumerKey key;
+        private final Consumer<String, V> consumer;
+        private int users;
+        private Instant lastUsed = clock.instant();
+
+        private Entry(ConsumerKey key, Consumer<String, V> consumer) {
+            this.key = key;
+            this.consumer = consumer;
+        }
+    }
+
+    static final class ConsumerKey {
+        private final String topic;
+        private final String consumerGroup;
+        private final String consumerId;
+
+        ConsumerKey(String topic, String consumerGroup, String consumerId) {
+            this.topic = topic;
+            this.consumerGroup = consumerGroup;
+            this.consumerId = consumerId;
+        }
+
+        String topic() {
+            return topic;
+        }
+
+        String consumerGroup() {
+            return consumerGroup;
+        }
+
+        String consumerId() {
+            return consumerId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ConsumerKey)) {
+                return false;
+            }
+            final ConsumerKey that = (ConsumerKey) o;
+            return topic.equals(that.topic)
+                    && consumerGroup.equals(that.consumerGroup)
+                    && consumerId.equals(that.consumerId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(topic, consumerGroup, consumerId);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("topic %s, group %s, id %s", topic, consumerGroup, consumerId);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.impl;
+
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Shares {@link KafkaProducer} instances between publishers configured with the same effective properties.
+ *
+ * <p>A {@link KafkaProducer} is thread safe and sharing a single instance is usually faster than having many of
+ * them. The producer is created on the first {@link #acquire(Properties)} for a given configuration and closed when
+ * the last {@link Lease} acquired for it is released.</p>
+ */
+final class KafkaProducerPool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(KafkaProducerPool.class);
+    private static final KafkaProducerPool INSTANCE = new KafkaProducerPool(
+            props -> new KafkaProducer<>(props, new StringSerializer(), new ByteArraySerializer()));
+
+    private final Function<Properties, Producer<String, byte[]>> producerFactory;
+    private final Map<Map<Object, Object>, PooledProducer> producers = new HashMap<>();
+
+    KafkaProducerPool(Function<Properties, Producer<String, byte[]>> producerFactory) {
+        this.producerFactory = producerFactory;
+    }
+
+    static KafkaProducerPool instance() {
+        return INSTANCE;
+    }
+
+    synchronized Lease acquire(Properties props) {
+        final Map<Object, Object> key = Map.copyOf(props);
+        final PooledProducer pooled = producers.computeIfAbsent(key,
+                k -> new PooledProducer(k, producerFactory.apply(props)));
+        pooled.references++;
+        LOGGER.debug("Acquired a shared Kafka Producer, {} publisher(s) are using it now", pooled.references);
+        return new Lease(pooled);
+    }
+
+    synchronized int size() {
+        return producers.size();
+    }
+
+    private void release(PooledProducer pooled) {
+        synchronized (this) {
+            if (--pooled.references > 0) {
+                return;
+            }
+            producers.remove(pooled.key);
+        }
+        LOGGER.info("Closing the Kafka Producer");
+        pooled.producer.close();
+    }
+
+    private static final class PooledProducer {
+        private final Map<Object, Object> key;
+        private final Producer<String, byte[]> producer;
+        private int references;
+
+        private PooledProducer(Map<Object, Object> key, Producer<String, byte[]> producer) {
+            this.key = key;
+            this.producer = producer;
+        }
+    }
+
+    final class Lease implements AutoCloseable {
+        private final PooledProducer pooled;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Lease(PooledProducer pooled) {
+            this.pooled = pooled;
+        }
+
+        Producer<String, byte[]> producer() {
+            return pooled.producer;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                release(pooled);
+            }
+        }
+    }
+}
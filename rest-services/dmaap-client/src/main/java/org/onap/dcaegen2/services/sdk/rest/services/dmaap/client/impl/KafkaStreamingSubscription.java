@@ -0,0 +1,312 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.impl;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config.ProcessingOrder;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config.TransportType;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Long-lived, demand driven subscription to a single Kafka topic.
+ *
+ * <p>Every subscriber of {@link #records()} gets its own consumer, polled in a loop on a dedicated thread. Polled
+ * records are put into a queue and handed downstream only as far as it requested them. When the queue holds
+ * {@code bufferSize} records, all assigned partitions are paused (the consumer keeps polling, so it stays in the
+ * group) and they are resumed once downstream drained half of it.</p>
+ *
+ * <p>{@link #acknowledgeableRecords()} is meant for consumers with auto-commit disabled. Offsets of acknowledged
+ * records are committed asynchronously from the poll loop, in batches of {@code commitBatchSize} acknowledgements
+ * or at least every {@code commitInterval}, and synchronously when partitions are revoked or the subscription
+ * is cancelled.</p>
+ *
+ * @param <V> type of the record values
+ */
+final class KafkaStreamingSubscription<V> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(KafkaStreamingSubscription.class);
+
+    private final Supplier<? extends Consumer<String, V>> consumerFactory;
+    private final String topic;
+    private final String consumerGroup;
+    private final int bufferSize;
+    private final Duration pollTimeout;
+    private final Duration commitInterval;
+    private final int commitBatchSize;
+    private final SubscriberMetrics metrics;
+
+    KafkaStreamingSubscription(Supplier<? extends Consumer<String, V>> consumerFactory, String topic,
+                               String consumerGroup, int bufferSize, Duration pollTimeout,
+                               SubscriberMetrics metrics) {
+        this(consumerFactory, topic, consumerGroup, bufferSize, pollTimeout, Duration.ZERO, 1, metrics);
+    }
+
+    KafkaStreamingSubscription(Supplier<? extends Consumer<String, V>> consumerFactory, String topic,
+                               String consumerGroup, int bufferSize, Duration pollTimeout,
+                               Duration commitInterval, int commitBatchSize, SubscriberMetrics metrics) {
+        this.consumerFactory = consumerFactory;
+        this.topic = topic;
+        this.consumerGroup = consumerGroup;
+        this.bufferSize = bufferSize;
+        this.pollTimeout = pollTimeout;
+        this.commitInterval = commitInterval;
+        this.commitBatchSize = commitBatchSize;
+        this.metrics = metrics;
+    }
+
+    Flux<ConsumerRecord<String, V>> records() {
+        return subscribe(null).map(AcknowledgeableRecord::record);
+    }
+
+    Flux<AcknowledgeableRecord<V>> acknowledgeableRecords() {
+        return Flux.defer(() -> subscribe(new OffsetTracker()));
+    }
+
+    /**
+     * Processes records of {@link #acknowledgeableRecords()} on {@code parallelism} threads of its own.
+     *
+     * <p>Records are split into as many lanes, by partition or by key depending on the order. The records of a lane
+     * are processed one after another, so records of the same partition or key are processed in offset order, while
+     * lanes are processed in parallel. A record is acknowledged once the publisher returned by the processor for it
+     * completes; when it fails, the processing stops with its error.</p>
+     *
+     * <p>A lane which cannot keep up holds back the others once its buffer is full.</p>
+     */
+    <R> Flux<R> processInParallel(
+            Function<? super ConsumerRecord<String, V>, ? extends Publisher<? extends R>> processor,
+            int parallelism, ProcessingOrder order) {
+        return Flux.using(
+                () -> Schedulers.newParallel("kafka-processing-" + topic, parallelism, true),
+                workers -> acknowledgeableRecords()
+                        .groupBy(rec -> lane(rec.record(), parallelism, order))
+                        .flatMap(lane -> lane.publishOn(workers)
+                                .concatMap(rec -> Flux.<R>from(processor.apply(rec.record()))
+                                        .doOnComplete(rec::acknowledge)), parallelism),
+                Scheduler::dispose);
+    }
+
+    private static int lane(ConsumerRecord<String, ?> rec, int lanes, ProcessingOrder order) {
+        final int hash = order == ProcessingOrder.KEY && rec.key() != null
+                ? rec.key().hashCode()
+                : rec.partition();
+        return Math.floorMod(hash, lanes);
+    }
+
+    private Flux<AcknowledgeableRecord<V>> subscribe(OffsetTracker offsets) {
+        return Flux.create(sink -> {
+            final PollLoop loop = new PollLoop(sink, offsets);
+            sink.onRequest(n -> loop.drain());
+            sink.onDispose(loop::stop);
+            final Thread thread = new Thread(loop, "kafka-subscription-" + topic);
+            thread.setDaemon(true);
+            thread.start();
+        });
+    }
+
+    static final class AcknowledgeableRecord<V> {
+        private static final Runnable NO_ACKNOWLEDGEMENT = () -> { };
+
+        private final ConsumerRecord<String, V> rec;
+        private final Runnable acknowledgement;
+
+        private AcknowledgeableRecord(ConsumerRecord<String, V> rec, Runnable acknowledgement) {
+            this.rec = rec;
+            this.acknowledgement = acknowledgement;
+        }
+
+        ConsumerRecord<String, V> record() {
+            return rec;
+        }
+
+        void acknowledge() {
+            acknowledgement.run();
+        }
+    }
+
+    private final class PollLoop implements Runnable, ConsumerRebalanceListener {
+        private final FluxSink<AcknowledgeableRecord<V>> sink;
+        private final OffsetTracker offsets;
+        private final Queue<AcknowledgeableRecord<V>> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean running = true;
+        private volatile Consumer<String, V> consumer;
+        private boolean paused;
+        private long lastCommitNanos = System.nanoTime();
+
+        private PollLoop(FluxSink<AcknowledgeableRecord<V>> sink, OffsetTracker offsets) {
+            this.sink = sink;
+            this.offsets = offsets;
+        }
+
+        @Override
+        public void run() {
+            try {
+                consumer = consumerFactory.get();
+                consumer.subscribe(Collections.singletonList(topic), this);
+                LOGGER.info("Started streaming subscription for topic {}", topic);
+                while (running) {
+                    applyBackpressure();
+                    enqueue(metrics.poll(consumer, pollTimeout, topic, consumerGroup));
+                    drain();
+                    commitIfDue();
+                }
+            } catch (WakeupException e) {
+                LOGGER.debug("Streaming subscription for topic {} was woken up", topic);
+            } catch (Exception e) {
+                LOGGER.error("Error while consuming the messages : {}", e.getMessage());
+                metrics.failed(topic, TransportType.KAFKA, e);
+                sink.error(e);
+            } finally {
+                close();
+            }
+        }
+
+        private void applyBackpressure() {
+            final int size = queued.get();
+            if (size >= bufferSize) {
+                if (!paused) {
+                    LOGGER.debug("Downstream is slow, pausing topic {} with {} buffered records", topic, size);
+                }
+                consumer.pause(consumer.assignment());
+                paused = true;
+            } else if (paused && size <= bufferSize / 2) {
+                LOGGER.debug("Resuming topic {} with {} buffered records", topic, size);
+                consumer.resume(consumer.paused());
+                paused = false;
+            }
+        }
+
+        private void enqueue(ConsumerRecords<String, V> records) {
+            for (ConsumerRecord<String, V> rec : records) {
+                final Runnable acknowledgement = offsets == null ? AcknowledgeableRecord.NO_ACKNOWLEDGEMENT
+                        : offsets.track(rec);
+                queue.offer(new AcknowledgeableRecord<>(rec, acknowledgement));
+                queued.incrementAndGet();
+            }
+        }
+
+        private void commitIfDue() {
+            if (offsets == null) {
+                return;
+            }
+            final long now = System.nanoTime();
+            if (offsets.acknowledgedSinceLastCommit() < commitBatchSize
+                    && now - lastCommitNanos < commitInterval.toNanos()) {
+                return;
+            }
+            lastCommitNanos = now;
+            final Map<TopicPartition, OffsetAndMetadata> committable = offsets.takeCommittable();
+            if (!committable.isEmpty()) {
+                consumer.commitAsync(committable, (committed, e) -> {
+                    if (e != null) {
+                        LOGGER.warn("Failed to commit offsets {} of topic {} : {}", committed, topic, e.getMessage());
+                    }
+                });
+            }
+        }
+
+        @Override
+        public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+            if (offsets != null) {
+                commitSync(offsets.revoke(partitions));
+            }
+        }
+
+        @Override
+        public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+            if (paused) {
+                consumer.pause(partitions);
+            }
+        }
+
+        private void commitSync(Map<TopicPartition, OffsetAndMetadata> committable) {
+            if (committable.isEmpty()) {
+                return;
+            }
+            try {
+                consumer.commitSync(committable);
+            } catch (WakeupException e) {
+                consumer.commitSync(committable);
+            } catch (KafkaException e) {
+                LOGGER.warn("Failed to commit offsets {} of topic {} : {}", committable, topic, e.getMessage());
+            }
+        }
+
+        void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                AcknowledgeableRecord<V> rec;
+                while (sink.requestedFromDownstream() > 0 && !sink.isCancelled() && (rec = queue.poll()) != null) {
+                    queued.decrementAndGet();
+                    sink.next(rec);
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        void stop() {
+            running = false;
+            final Consumer<String, V> current = consumer;
+            if (current != null) {
+                current.wakeup();
+            }
+        }
+
+        private void close() {
+            final Consumer<String, V> current = consumer;
+            if (current != null) {
+                LOGGER.info("Closing the Kafka Consumer of streaming subscription for topic {}", topic);
+                if (offsets != null) {
+                    commitSync(offsets.takeCommittable());
+                }
+                current.close();
+            }
+            queue.clear();
+        }
+    }
+}
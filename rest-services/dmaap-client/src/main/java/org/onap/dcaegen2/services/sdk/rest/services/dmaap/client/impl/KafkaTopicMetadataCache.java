@@ -0,0 +1,188 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.impl;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches whether topics exist in Kafka.
+ *
+ * <p>Topics are looked up one by one with {@code describeTopics} instead of listing the whole cluster, and results
+ * are kept for {@code ttl}. When a refresh interval is given, all cached topics are looked up again in the
+ * background, so frequently used topics are never looked up on the caller's thread. Topics not checked for
+ * {@code ttl} are evicted by the refresh instead of being looked up again.</p>
+ *
+ * <p>Hits and misses are registered as the {@value SubscriberMetrics#TOPIC_METADATA_LOOKUPS} meter of the given
+ * registry.</p>
+ */
+final class KafkaTopicMetadataCache implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(KafkaTopicMetadataCache.class);
+
+    private final Admin admin;
+    private final Duration ttl;
+    private final Clock clock;
+    private final ScheduledExecutorService refresher;
+    private final Map<String, Entry> topics = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    KafkaTopicMetadataCache(Admin admin, Duration ttl, Duration refreshInterval, MeterRegistry registry) {
+        this(admin, ttl, Clock.systemUTC(), registry);
+        refresher.scheduleWithFixedDelay(this::refresh,
+                refreshInterval.toMillis(), refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    KafkaTopicMetadataCache(Admin admin, Duration ttl, Clock clock, MeterRegistry registry) {
+        this.admin = admin;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "kafka-topic-metadata-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        FunctionCounter.builder(SubscriberMetrics.TOPIC_METADATA_LOOKUPS, hits, AtomicLong::get)
+                .tag(SubscriberMetrics.RESULT_TAG, "hit")
+                .register(registry);
+        FunctionCounter.builder(SubscriberMetrics.TOPIC_METADATA_LOOKUPS, misses, AtomicLong::get)
+                .tag(SubscriberMetrics.RESULT_TAG, "miss")
+                .register(registry);
+    }
+
+    boolean topicExists(String topic) {
+        final Instant now = clock.instant();
+        final Entry cached = topics.get(topic);
+        if (cached != null && !cached.isExpired(now, ttl)) {
+            cached.checkedAt = now;
+            hits.incrementAndGet();
+            return cached.exists;
+        }
+        misses.incrementAndGet();
+        final boolean exists = describe(Collections.singleton(topic)).getOrDefault(topic, false);
+        final Entry described = topics.get(topic);
+        if (described != null) {
+            described.checkedAt = now;
+        }
+        return exists;
+    }
+
+    int size() {
+        return topics.size();
+    }
+
+    long hits() {
+        return hits.get();
+    }
+
+    long misses() {
+        return misses.get();
+    }
+
+    void refresh() {
+        final Instant now = clock.instant();
+        topics.values().removeIf(entry -> entry.isUnused(now, ttl));
+        try {
+            if (!topics.isEmpty()) {
+                describe(topics.keySet());
+            }
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to refresh topic metadata : {}", e.getMessage());
+        }
+    }
+
+    private Map<String, Boolean> describe(Collection<String> names) {
+        final Map<String, Boolean> result = new ConcurrentHashMap<>();
+        final Instant now = clock.instant();
+        admin.describeTopics(names).topicNameValues().forEach((topic, description) -> {
+            final Boolean exists = exists(topic, description);
+            if (exists != null) {
+                topics.compute(topic, (name, previous) ->
+                        new Entry(exists, now, previous == null ? now : previous.checkedAt));
+                result.put(topic, exists);
+            }
+        });
+        return result;
+    }
+
+    private static Boolean exists(String topic, KafkaFuture<?> description) {
+        try {
+            description.get();
+            return true;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UnknownTopicOrPartitionException) {
+                return false;
+            }
+            LOGGER.error("Failed to describe topic {} in kafka.", topic, e);
+            return null;
+        } catch (InterruptedException e) {
+            LOGGER.error("Interrupted while describing topic {} in kafka.", topic, e);
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    @Override
+    public void close() {
+        refresher.shutdownNow();
+        admin.close();
+    }
+
+    private static final class Entry {
+        private final boolean exists;
+        private final Instant fetchedAt;
+        private volatile Instant checkedAt;
+
+        private Entry(boolean exists, Instant fetchedAt, Instant checkedAt) {
+            this.exists = exists;
+            this.fetchedAt = fetchedAt;
+            this.checkedAt = checkedAt;
+        }
+
+        private boolean isExpired(Instant now, Duration ttl) {
+            return !fetchedAt.plus(ttl).isAfter(now);
+        }
+
+        private boolean isUnused(Instant now, Duration ttl) {
+            return !checkedAt.plus(ttl).isAfter(now);
+        }
+    }
+}
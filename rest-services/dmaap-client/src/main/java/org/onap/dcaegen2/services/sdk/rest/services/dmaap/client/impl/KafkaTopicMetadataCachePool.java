@@ -0,0 +1,158 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.impl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.apache.kafka.clients.CommonClientConfigs;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+
+/**
+ * Shares a {@link KafkaTopicMetadataCache} and its admin client between subscribers of the same Kafka cluster.
+ *
+ * <p>Caches are keyed by the admin client properties, so subscribers of different clusters never look up topics
+ * in each other's cluster. The cache is created on the first lookup done under a {@link Lease} for a given
+ * configuration and closed when the last lease acquired for it is released.</p>
+ *
+ * <p>The meters of a cache are tagged with the bootstrap servers of its cluster and registered in the registries of
+ * all subscribers currently holding a lease on it.</p>
+ */
+final class KafkaTopicMetadataCachePool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(KafkaTopicMetadataCachePool.class);
+    private static final Duration TOPIC_METADATA_TTL = Duration.ofMinutes(2);
+    private static final Duration TOPIC_METADATA_REFRESH_INTERVAL = Duration.ofMinutes(1);
+    private static final KafkaTopicMetadataCachePool INSTANCE = new KafkaTopicMetadataCachePool(
+            (props, registry) -> new KafkaTopicMetadataCache(AdminClient.create(props),
+                    TOPIC_METADATA_TTL, TOPIC_METADATA_REFRESH_INTERVAL, registry));
+
+    private final BiFunction<Properties, MeterRegistry, KafkaTopicMetadataCache> cacheFactory;
+    private final Map<Map<Object, Object>, PooledCache> caches = new HashMap<>();
+
+    KafkaTopicMetadataCachePool(BiFunction<Properties, MeterRegistry, KafkaTopicMetadataCache> cacheFactory) {
+        this.cacheFactory = cacheFactory;
+    }
+
+    static KafkaTopicMetadataCachePool instance() {
+        return INSTANCE;
+    }
+
+    synchronized Lease acquire(Properties adminProps) {
+        return acquire(adminProps, null);
+    }
+
+    /**
+     * @param registry registry of the meters of the cache while the lease is held, may be {@code null}
+     */
+    synchronized Lease acquire(Properties adminProps, MeterRegistry registry) {
+        final Map<Object, Object> key = Map.copyOf(adminProps);
+        final PooledCache pooled = caches.computeIfAbsent(key, k -> new PooledCache(k, adminProps));
+        pooled.references++;
+        if (registry != null && pooled.registries.merge(registry, 1, Integer::sum) == 1) {
+            pooled.registry.add(registry);
+        }
+        return new Lease(pooled, registry);
+    }
+
+    synchronized int size() {
+        return caches.size();
+    }
+
+    private synchronized KafkaTopicMetadataCache cache(PooledCache pooled) {
+        if (pooled.cache == null) {
+            LOGGER.info("Creating a Kafka AdminClient for {}", pooled.cluster);
+            pooled.cache = cacheFactory.apply(pooled.adminProps, pooled.registry);
+        }
+        return pooled.cache;
+    }
+
+    private void release(PooledCache pooled, MeterRegistry registry) {
+        synchronized (this) {
+            if (registry != null && pooled.registries.merge(registry, -1, Integer::sum) == 0) {
+                pooled.registries.remove(registry);
+                pooled.registry.remove(registry);
+                registry.find(SubscriberMetrics.TOPIC_METADATA_LOOKUPS)
+                        .tag(SubscriberMetrics.CLUSTER_TAG, pooled.cluster)
+                        .meters()
+                        .forEach(registry::remove);
+            }
+            if (--pooled.references > 0) {
+                return;
+            }
+            caches.remove(pooled.key);
+            if (pooled.cache == null) {
+                return;
+            }
+        }
+        LOGGER.info("Closing the Kafka AdminClient.");
+        pooled.cache.close();
+    }
+
+    private static final class PooledCache {
+        private final Map<Object, Object> key;
+        private final Properties adminProps;
+        private final String cluster;
+        private final CompositeMeterRegistry registry = new CompositeMeterRegistry();
+        private final Map<MeterRegistry, Integer> registries = new HashMap<>();
+        private KafkaTopicMetadataCache cache;
+        private int references;
+
+        private PooledCache(Map<Object, Object> key, Properties adminProps) {
+            this.key = key;
+            this.adminProps = new Properties();
+            this.adminProps.putAll(adminProps);
+            this.cluster = String.valueOf(adminProps.get(CommonClientConfigs.BOOTSTRAP_SERVERS_CONFIG));
+            this.registry.config().commonTags(SubscriberMetrics.CLUSTER_TAG, cluster);
+        }
+    }
+
+    final class Lease implements AutoCloseable {
+        private final PooledCache pooled;
+        private final MeterRegistry registry;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Lease(PooledCache pooled, MeterRegistry registry) {
+            this.pooled = pooled;
+            this.registry = registry;
+        }
+
+        KafkaTopicMetadataCache cache() {
+            return KafkaTopicMetadataCachePool.this.cache(pooled);
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                release(pooled, registry);
+            }
+        }
+    }
+}
@@ -21,28 +21,29 @@
 
 package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.impl;
 
-import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import io.netty.handler.timeout.ReadTimeoutException;
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
 import io.vavr.collection.HashMap;
+import io.vavr.collection.HashSet;
 import io.vavr.collection.List;
 import io.vavr.collection.Map;
+import io.vavr.collection.Set;
 import io.vavr.collection.Stream;
 import io.vavr.control.Option;
 
-import org.apache.kafka.clients.CommonClientConfigs;
-import org.apache.kafka.clients.producer.Callback;
-import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
-import org.apache.kafka.common.config.SaslConfigs;
+import org.apache.kafka.common.errors.RetriableException;
 import org.apache.kafka.common.errors.TimeoutException;
-import org.apache.kafka.common.security.auth.SecurityProtocol;
-import org.apache.kafka.common.security.scram.internals.ScramMechanism;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.onap.dcaegen2.services.sdk.model.streams.dmaap.ImmutableKafkaSink;
 import org.onap.dcaegen2.services.sdk.model.streams.dmaap.KafkaSink;
 import org.onap.dcaegen2.services.sdk.rest.services.adapters.http.HttpHeaders;
@@ -55,30 +56,51 @@ import org.onap.dcaegen2.services.sdk.rest.services.adapters.http.RxHttpClient;
 import org.onap.dcaegen2.services.sdk.rest.services.adapters.http.exceptions.RetryableException;
 import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.ContentType;
 import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.api.MessageRouterPublisher;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.api.PayloadSerializer;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.api.PayloadSerializers;
 import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.error.ClientErrorReason;
 import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.error.ClientErrorReasonPresenter;
 import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.error.ClientErrorReasons;
 import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.ImmutableMessageRouterPublishResponse;
 import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.MessageRouterPublishRequest;
 import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.MessageRouterPublishResponse;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config.CompressionType;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config.DmaapRetryConfig;
 import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config.DmaapTimeoutConfig;
-import org.reactivestreams.Publisher;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config.ImmutableMessageRouterPublisherConfig;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config.KafkaClientConfig;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config.MessageRouterPublisherConfig;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config.TransportType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 import reactor.netty.internal.shaded.reactor.pool.PoolAcquirePendingLimitException;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.ConnectException;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Properties;
-import java.util.concurrent.Future;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.zip.GZIPOutputStream;
 
 import static org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.impl.Commons.extractFailReason;
-import static org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.impl.Commons.getTopicFromTopicUrl;
-import static org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.impl.Commons.setKafkaPropertiesFromSystemEnv;
 
 /**
  * @author <a href="mailto:piotr.jaszczyk@nokia.com">Piotr Jaszczyk</a>
@@ -88,21 +110,92 @@ public class MessageRouterPublisherImpl implements MessageRouterPublisher {
     private final RxHttpClient httpClient;
     private final int maxBatchSize;
     private final Duration maxBatchDuration;
+    private final int maxConcurrentBatches;
     private final ClientErrorReasonPresenter clientErrorReasonPresenter;
+    private final CompressionType compression;
+    private final AtomicLong bytesIn = new AtomicLong();
+    private final AtomicLong httpBytesOut = new AtomicLong();
+    private final InFlightWindow inFlight;
+    private final int retryCount;
+    private final Duration retryInterval;
+    private final String deadLetterTopic;
+    private final DeadLetterFile deadLetterFile;
+    private final TransportType transport;
+    private final PublisherMetrics metrics;
+    private SpillQueue spill;
+    private ScheduledExecutorService spillReplay;
+    private Scheduler sendScheduler;
  
-    private static Properties props;
-    private static final String kafkaBootstrapServers = "BOOTSTRAP_SERVERS";
+    private static final String PRODUCER_METRICS_GROUP = "producer-metrics";
+    private static final String PRODUCER_OUTGOING_BYTES = "outgoing-byte-total";
+    private static final String PRODUCER_BUFFER_TOTAL_BYTES = "buffer-total-bytes";
+    private static final String PRODUCER_BUFFER_AVAILABLE_BYTES = "buffer-available-bytes";
+    private static final String ORIGINAL_TOPIC_HEADER = "original-topic";
+    private static final String FAILURE_REASON_HEADER = "failure-reason";
+    private static final int MAX_BACKOFF_EXPONENT = 16;
+    private static final byte[] JSON_ARRAY_START = {'['};
+    private static final byte[] JSON_ARRAY_SEPARATOR = {','};
+    private static final byte[] JSON_ARRAY_END = {']'};
+    private static final byte[] PLAIN_SEPARATOR = {'\n'};
     private static final Logger LOGGER = LoggerFactory.getLogger(MessageRouterPublisherImpl.class);   
-    private static Producer<String, String> kafkaProducer;
-    public static Future<RecordMetadata> future;
-    static boolean flag;
-    static Exception exception;
+    private final KafkaProducerPool producerPool = KafkaProducerPool.instance();
+    private Properties props;
+    private KafkaProducerPool.Lease producerLease;
+    private Producer<String, byte[]> kafkaProducer;
     public MessageRouterPublisherImpl(RxHttpClient httpClient, int maxBatchSize, Duration maxBatchDuration, ClientErrorReasonPresenter clientErrorReasonPresenter) throws Exception {
+        this(httpClient, ImmutableMessageRouterPublisherConfig.builder()
+                .maxBatchSize(maxBatchSize)
+                .maxBatchDuration(maxBatchDuration)
+                .build(), clientErrorReasonPresenter);
+    }
+
+    public MessageRouterPublisherImpl(RxHttpClient httpClient, MessageRouterPublisherConfig config,
+                                      ClientErrorReasonPresenter clientErrorReasonPresenter) throws Exception {
+        this(httpClient, config, clientErrorReasonPresenter, null);
+    }
+
+    /**
+     * @param meterRegistry registry of the meters described in {@code PublisherMetrics}, none are recorded when it is
+     *     {@code null}
+     * @since 1.9.5
+     */
+    public MessageRouterPublisherImpl(RxHttpClient httpClient, MessageRouterPublisherConfig config,
+                                      ClientErrorReasonPresenter clientErrorReasonPresenter,
+                                      MeterRegistry meterRegistry) throws Exception {
         this.httpClient = httpClient;
-        this.maxBatchSize = maxBatchSize;
-        this.maxBatchDuration = maxBatchDuration;
+        this.maxBatchSize = config.maxBatchSize();
+        this.maxBatchDuration = config.maxBatchDuration();
+        this.maxConcurrentBatches = config.transport().usesHttp() ? 1 : config.maxConcurrentBatches();
         this.clientErrorReasonPresenter = clientErrorReasonPresenter;
-        setProperties();
+        this.compression = config.compression();
+        this.inFlight = new InFlightWindow(config.maxInFlightRecords(), config.maxInFlightBytes());
+        this.retryCount = config.retryConfig() == null ? 0 : config.retryConfig().retryCount();
+        this.retryInterval = config.retryConfig() == null ? Duration.ZERO
+                : Duration.ofSeconds(config.retryConfig().retryIntervalInSeconds());
+        this.deadLetterTopic = config.deadLetterTopic();
+        this.deadLetterFile = config.deadLetterFile() == null ? null : new DeadLetterFile(config.deadLetterFile());
+        this.transport = config.transport();
+        this.metrics = meterRegistry == null ? PublisherMetrics.disabled() : new PublisherMetrics(meterRegistry);
+        if (transport.usesKafka()) {
+            setProperties(config.kafkaClientConfig());
+            setProducerProperties(config);
+            sendScheduler = Schedulers.newSingle("kafka-send", true);
+            if (config.spillDirectory() != null) {
+                startSpill(config);
+            }
+        }
+        registerGauges();
+    }
+
+    private void registerGauges() {
+        metrics.gauge(PublisherMetrics.IN_FLIGHT_RECORDS, this, MessageRouterPublisherImpl::inFlightRecords);
+        metrics.gauge(PublisherMetrics.IN_FLIGHT_BYTES, this, MessageRouterPublisherImpl::inFlightBytes);
+        if (transport.usesKafka()) {
+            metrics.gauge(PublisherMetrics.BUFFER_UTILIZATION, this, MessageRouterPublisherImpl::bufferUtilization);
+        }
+        if (spill != null) {
+            metrics.gauge(PublisherMetrics.SPILLED_RECORDS, spill, SpillQueue::size);
+        }
     }
     
     /**
@@ -111,140 +204,628 @@ public class MessageRouterPublisherImpl implements MessageRouterPublisher {
      * @throws Exception
      */
     public MessageRouterPublisherImpl() throws Exception {
-        this.httpClient = null;
-        this.maxBatchSize = 0;
-        this.maxBatchDuration = null;
-        this.clientErrorReasonPresenter = null;
-        setProperties();
+        this(null, MessageRouterPublisherConfig.createDefault(), null);
     }
-    
-//    @Override
-//    public Flux<MessageRouterPublishResponse> put(
-//            MessageRouterPublishRequest request,
-//            Flux<? extends JsonElement> items) {
-//        return items.bufferTimeout(maxBatchSize, maxBatchDuration)
-//                .flatMap(subItems -> subItems.isEmpty() ? Mono.empty() : pushBatchToMr(request, List.ofAll(subItems)));
-//    }
-    
-    
+
     @Override
     public Flux<MessageRouterPublishResponse> put(
             MessageRouterPublishRequest request,
             Flux<? extends JsonElement> items) {
-        flag = true;
-        exception=null;
-        future = null;
-        List<String> batch = getBatch(items);
-        String topic = getTopicFromTopicUrl(request.sinkDefinition().topicUrl());
-        LOGGER.info("Topic extracted from URL {} is : {} ",request.sinkDefinition().topicUrl(),topic);
-        LOGGER.info("Sending a batch of {} items for topic {} to kafka", batch.size(),topic);
-        LOGGER.trace("The items to be sent: {}", batch);
-        if(kafkaProducer == null) {
-            kafkaProducer = new KafkaProducer<>(props);
-        }
-        Flux<MessageRouterPublishResponse> response;
+        return this.<JsonElement>publish(request, items, PayloadSerializers.gson(), request.keyExtractor(),
+                (sent, failed) -> ImmutableMessageRouterPublishResponse.builder().items(sent).failedItems(failed));
+    }
+
+    @Override
+    public <T> Flux<MessageRouterPublishResponse> put(MessageRouterPublishRequest request, Flux<? extends T> items,
+                                                      PayloadSerializer<? super T> serializer) {
+        if (request.keyExtractor() != null) {
+            return Flux.error(new IllegalArgumentException(
+                    "The key extractor of the request applies to JSON trees only, pass one for the published items"));
+        }
+        return put(request, items, serializer, item -> null);
+    }
+
+    @Override
+    public <T> Flux<MessageRouterPublishResponse> put(MessageRouterPublishRequest request, Flux<? extends T> items,
+                                                      PayloadSerializer<? super T> serializer,
+                                                      Function<? super T, String> keyExtractor) {
+        return publish(request, items, serializer, keyExtractor,
+                (sent, failed) -> ImmutableMessageRouterPublishResponse.builder()
+                        .itemsCount(sent.size())
+                        .failedItemsCount(failed.size()));
+    }
+
+    private <T> Flux<MessageRouterPublishResponse> publish(
+            MessageRouterPublishRequest request, Flux<? extends T> items, PayloadSerializer<? super T> serializer,
+            Function<? super T, String> keyExtractor,
+            BiFunction<List<T>, List<T>, ImmutableMessageRouterPublishResponse.Builder> response) {
+        final Function<? super T, String> keys = keyExtractor == null ? item -> null : keyExtractor;
+        final String topic = TopicNames.of(request.sinkDefinition());
+        LOGGER.debug("Topic extracted from URL {} is : {} ", request.sinkDefinition().topicUrl(), topic);
+        return items.concatMap(item -> admit(item, serializer, keys))
+                .bufferTimeout(maxBatchSize, maxBatchDuration)
+                .onBackpressureBuffer()
+                .flatMapSequential(batch -> batch.isEmpty() ? Mono.empty()
+                        : pushBatch(request, topic, List.ofAll(batch), response), maxConcurrentBatches)
+                .doOnDiscard(Object.class, this::releaseDiscarded);
+    }
+
+    /**
+     * Serializes the item and waits until it fits into the in-flight window.
+     *
+     * <p>The window is what bounds the demand for published items. Batches waiting for one of the
+     * {@code maxConcurrentBatches} are buffered without a limit, because a batch flushed by the timer cannot be held
+     * back, but there are never more of them than records in the window.</p>
+     */
+    private <T> Mono<PendingRecord<T>> admit(T item, PayloadSerializer<? super T> serializer,
+                                             Function<? super T, String> keys) {
+        PendingRecord<T> pending;
         try {
-            
-            for (String msg : batch) {
-                 ProducerRecord<String, String> data =
-                        new ProducerRecord<>(topic,  msg);
-                 future = kafkaProducer.send(data,new Callback() {
-                    
-                    @Override
-                    public void onCompletion(RecordMetadata metadata, Exception e) {
-                        
-                        if(e != null) {
-                            flag=false;
-                            exception = e;
-                        } 
-                    }
+            pending = new PendingRecord<>(item, keys.apply(item), countBytesIn(serializer.serialize(item)), null);
+        } catch (RuntimeException e) {
+            pending = new PendingRecord<>(item, null, null, e);
+        }
+        final PendingRecord<T> record = pending;
+        return inFlight.acquire(record.size()).thenReturn(record);
+    }
+
+    private void release(PendingRecord<?> record) {
+        if (record.released.compareAndSet(false, true)) {
+            inFlight.release(record.size());
+        }
+    }
+
+    private void releaseDiscarded(Object discarded) {
+        if (discarded instanceof PendingRecord) {
+            release((PendingRecord<?>) discarded);
+        } else if (discarded instanceof Collection) {
+            ((Collection<?>) discarded).forEach(this::releaseDiscarded);
+        }
+    }
+
+    /**
+     * Sends the batch over the configured transport. When publishing over both, the batch is reported as sent only
+     * if both Kafka and DMaaP MR accepted it, otherwise the Kafka response is reported if it failed, and the DMaaP MR
+     * one if not.
+     */
+    private <T> Mono<MessageRouterPublishResponse> pushBatch(
+            MessageRouterPublishRequest request, String topic, List<PendingRecord<T>> batch,
+            BiFunction<List<T>, List<T>, ImmutableMessageRouterPublishResponse.Builder> response) {
+        metrics.batch(topic, batch.size());
+        final Mono<MessageRouterPublishResponse> pushed;
+        switch (transport) {
+            case HTTP:
+                pushed = pushBatchToMr(request, topic, batch, response);
+                break;
+            case BOTH:
+                pushed = pushBatchToKafka(topic, batch, response)
+                        .zipWith(pushBatchToMr(request, topic, batch, response),
+                                (kafka, mr) -> kafka.failed() ? kafka : mr);
+                break;
+            default:
+                pushed = pushBatchToKafka(topic, batch, response);
+        }
+        return pushed.doFinally(signal -> batch.forEach(this::release));
+    }
+
+    /**
+     * Sends all records of the batch and completes once every one of them has been either acknowledged by Kafka,
+     * or given up on.
+     *
+     * <p>Records without a key failing with a retriable error are sent again, up to
+     * {@link DmaapRetryConfig#retryCount()} times with exponentially growing delays. Only the failed records are
+     * re-sent, the acknowledged ones are not. Records with a key are not re-sent, as they would end up behind later
+     * records with the same key; they are retried in order by the idempotent producer itself, within its
+     * {@code delivery.timeout.ms}. Records still failing with a retriable error afterwards are stored in the spill
+     * queue, when configured. The remaining
+     * failed records are reported in {@link MessageRouterPublishResponse#failedItems()} and handed to the
+     * dead-letter topic or file, when configured.</p>
+     *
+     * <p>While spilled records are waiting to be replayed, the whole batch is spilled behind them instead.</p>
+     */
+    private <T> Mono<MessageRouterPublishResponse> pushBatchToKafka(
+            String topic, List<PendingRecord<T>> batch,
+            BiFunction<List<T>, List<T>, ImmutableMessageRouterPublishResponse.Builder> response) {
+        LOGGER.debug("Sending a batch of {} items for topic {} to kafka", batch.size(), topic);
+        LOGGER.trace("The items to be sent: {}", batch.map(PendingRecord::item));
+        final Mono<List<FailedRecord<T>>> unsent = spill != null && !spill.isEmpty()
+                ? Mono.fromCallable(() -> spillBehindPending(topic, batch)).subscribeOn(Schedulers.boundedElastic())
+                : sendWithRetries(topic, batch, 0)
+                        .publishOn(Schedulers.boundedElastic())
+                        .map(failed -> spill(topic, failed, FailedRecord::retriable));
+        return metrics.timed(topic, TransportType.KAFKA, unsent
+                .flatMap(failed -> deadLetter(topic, failed).thenReturn(failed))
+                .publishOn(Schedulers.boundedElastic())
+                .map(failed -> buildKafkaResponse(topic, batch, failed, response))
+                .onErrorResume(e -> buildFailedResponse(topic, batch.size(), e)));
+    }
+
+    private <T> Mono<List<FailedRecord<T>>> sendWithRetries(String topic, List<PendingRecord<T>> records, int attempt) {
+        return sendAll(records, record -> send(topic, record)).flatMap(failed -> {
+            final List<FailedRecord<T>> retriable = failed.filter(f -> f.retriable() && f.record.key == null);
+            if (retriable.isEmpty() || attempt >= retryCount) {
+                return Mono.just(failed);
+            }
+            final Duration backoff = retryInterval.multipliedBy(1L << Math.min(attempt, MAX_BACKOFF_EXPONENT));
+            LOGGER.warn("Retrying {} of {} records for topic {} in {}", retriable.size(), records.size(), topic,
+                    backoff);
+            return Mono.delay(backoff)
+                    .then(sendWithRetries(topic, retriable.map(FailedRecord::record), attempt + 1))
+                    .map(stillFailed -> failed.removeAll(retriable).appendAll(stillFailed));
+        });
+    }
+
+    /**
+     * Hands all the records to the producer at once and collects the records which failed.
+     *
+     * <p>{@link Producer#send} may block while waiting for metadata or free buffer space, so the records are handed
+     * over on a thread of their own. It is a single one, so the records of concurrently sent batches reach the
+     * producer in the order of the batches, which keeps the order of records with the same key.</p>
+     */
+    private <T> Mono<List<FailedRecord<T>>> sendAll(List<PendingRecord<T>> records,
+                                                    Function<PendingRecord<T>, Mono<?>> sender) {
+        return Mono.fromCallable(() -> records.map(record -> handOver(record, sender)
+                        .then(Mono.<FailedRecord<T>>empty())
+                        .onErrorResume(e -> Mono.just(new FailedRecord<>(record, e)))))
+                .subscribeOn(sendScheduler)
+                .flatMapMany(Flux::mergeSequential)
+                .collect(List.collector());
+    }
+
+    private static <T> Mono<?> handOver(PendingRecord<T> record, Function<PendingRecord<T>, Mono<?>> sender) {
+        try {
+            return sender.apply(record);
+        } catch (RuntimeException e) {
+            return Mono.error(e);
+        }
+    }
+
+    private Mono<RecordMetadata> send(String topic, PendingRecord<?> record) {
+        if (record.failure != null) {
+            return Mono.error(record.failure);
+        }
+        return send(new ProducerRecord<>(topic, record.key, record.payload))
+                .doOnSuccess(metadata -> {
+                    metrics.bytesSent(topic, TransportType.KAFKA, record.size());
+                    release(record);
                 });
+    }
+
+    private Mono<RecordMetadata> send(ProducerRecord<String, byte[]> record) {
+        return Mono.fromFuture(sendAsync(record));
+    }
+
+    private CompletableFuture<RecordMetadata> sendAsync(ProducerRecord<String, byte[]> record) {
+        final CompletableFuture<RecordMetadata> ack = new CompletableFuture<>();
+        getKafkaProducer().send(record, (metadata, e) -> {
+            if (e == null) {
+                ack.complete(metadata);
+            } else {
+                ack.completeExceptionally(e);
             }
-            if(flag) {
-                LOGGER.info("Sent a batch of {} items for topic {} to kafka", batch.size(),topic);
-                response = Flux.just(ImmutableMessageRouterPublishResponse.builder().items(List.ofAll(items.collectList().block())).build());
-            }else {
-                throw exception;
+        });
+        return ack;
+    }
+
+    /**
+     * Appends the records accepted by the filter to the spill queue, when there is one, and marks them as spilled.
+     */
+    private <T> List<FailedRecord<T>> spill(String topic, List<FailedRecord<T>> failed,
+                                            Predicate<FailedRecord<T>> spillable) {
+        if (spill == null || failed.isEmpty()) {
+            return failed;
+        }
+        final List<FailedRecord<T>> toSpill = failed.filter(spillable);
+        int spilled = 0;
+        try {
+            spilled = spill.appendAll(toSpill
+                    .map(f -> new SpillQueue.Record(topic, f.record.key, f.record.payload))
+                    .asJava());
+        } catch (IOException e) {
+            LOGGER.error("Could not spill records for topic {} : {}", topic, e.getMessage());
+        }
+        if (spilled > 0) {
+            LOGGER.warn("Spilled {} records for topic {}, {} records waiting to be replayed", spilled, topic,
+                    spill.size());
+        }
+        toSpill.take(spilled).forEach(f -> f.spilled = true);
+        return failed;
+    }
+
+    /**
+     * Spills the whole batch behind the records waiting to be replayed. Records which could not be serialized keep
+     * their own failure, the ones which did not fit into the spill queue fail as such.
+     */
+    private <T> List<FailedRecord<T>> spillBehindPending(String topic, List<PendingRecord<T>> batch) {
+        final Throwable replayPending = new IllegalStateException("Records spilled before are waiting to be replayed");
+        final Throwable spillFull = new IllegalStateException("The spill queue is full");
+        return spill(topic, batch.map(record -> new FailedRecord<>(record,
+                record.failure == null ? replayPending : record.failure)), FailedRecord::hasPayload)
+                .map(f -> f.spilled || !f.hasPayload() ? f : new FailedRecord<>(f.record, spillFull));
+    }
+
+    private void startSpill(MessageRouterPublisherConfig config) throws IOException {
+        spill = new SpillQueue(config.spillDirectory(), config.spillSegmentSize(), config.maxSpillSize());
+        spillReplay = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "kafka-spill-replay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long interval = config.spillReplayInterval().toMillis();
+        spillReplay.scheduleWithFixedDelay(this::replaySpilled, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Re-sends spilled records in the order they were spilled, batch by batch. A batch is removed from the queue up
+     * to its first record which was not acknowledged; the replay stops there until the next attempt, so records may
+     * be published more than once, but not out of order.
+     */
+    void replaySpilled() {
+        try {
+            while (!spill.isEmpty()) {
+                final java.util.List<SpillQueue.Record> records = spill.peek(maxBatchSize);
+                if (records.isEmpty()) {
+                    return;
+                }
+                final java.util.List<CompletableFuture<RecordMetadata>> acks = new ArrayList<>(records.size());
+                for (SpillQueue.Record record : records) {
+                    acks.add(sendAsync(new ProducerRecord<>(record.topic(), record.key(), record.payload())));
+                }
+                int delivered = 0;
+                for (CompletableFuture<RecordMetadata> ack : acks) {
+                    try {
+                        ack.get();
+                    } catch (ExecutionException e) {
+                        LOGGER.warn("Could not replay spilled records, {} are waiting : {}", spill.size(),
+                                e.getCause().getMessage());
+                        break;
+                    }
+                    metrics.replayed(records.get(delivered++).topic());
+                }
+                spill.remove(delivered);
+                if (delivered < records.size()) {
+                    return;
+                }
+                LOGGER.info("Replayed {} spilled records, {} are waiting", delivered, spill.size());
             }
-        }catch(Exception e) {
-            LOGGER.error("Error while publishing the messages : {}",e.getStackTrace());
-            response = Flux.just(ImmutableMessageRouterPublishResponse.builder()
-                    .failReason(e.getMessage())
-                    .build());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | RuntimeException e) {
+            LOGGER.error("Could not replay spilled records : {}", e.getMessage());
         }
-        return response;
     }
-    
+
+    private <T> Mono<Void> deadLetter(String topic, List<FailedRecord<T>> failed) {
+        final List<FailedRecord<T>> deliverable = failed.filter(f -> !f.spilled && f.hasPayload());
+        if (deliverable.isEmpty()) {
+            return Mono.empty();
+        }
+        final Map<PendingRecord<T>, Throwable> errors = deliverable.toMap(f -> Tuple.of(f.record, f.error));
+        final Mono<List<PendingRecord<T>>> undelivered = deadLetterTopic == null
+                ? Mono.just(deliverable.map(FailedRecord::record))
+                : sendAll(deliverable.map(FailedRecord::record),
+                        record -> send(deadLetterRecord(topic, record, errors.get(record).get())))
+                        .map(notDeadLettered -> notDeadLettered.map(FailedRecord::record));
+        return undelivered
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(records -> writeDeadLetterFile(topic, records, errors))
+                .then();
+    }
+
+    private ProducerRecord<String, byte[]> deadLetterRecord(String topic, PendingRecord<?> record, Throwable error) {
+        final ProducerRecord<String, byte[]> deadLetter =
+                new ProducerRecord<>(deadLetterTopic, record.key, record.payload);
+        deadLetter.headers()
+                .add(ORIGINAL_TOPIC_HEADER, topic.getBytes(StandardCharsets.UTF_8))
+                .add(FAILURE_REASON_HEADER, String.valueOf(error.getMessage()).getBytes(StandardCharsets.UTF_8));
+        return deadLetter;
+    }
+
+    private <T> void writeDeadLetterFile(String topic, List<PendingRecord<T>> records,
+                                         Map<PendingRecord<T>, Throwable> errors) {
+        if (records.isEmpty()) {
+            return;
+        }
+        if (deadLetterFile == null) {
+            LOGGER.error("{} records for topic {} could not be published and are lost", records.size(), topic);
+            return;
+        }
+        for (PendingRecord<T> record : records) {
+            try {
+                deadLetterFile.append(topic, record.key, record.payload, errors.get(record).get().getMessage());
+            } catch (IOException e) {
+                LOGGER.error("Could not write a record for topic {} to the dead-letter file {} : {}", topic,
+                        deadLetterFile.path(), e.getMessage());
+            }
+        }
+        LOGGER.warn("Wrote {} records for topic {} to the dead-letter file {}", records.size(), topic,
+                deadLetterFile.path());
+    }
+
+    private <T> MessageRouterPublishResponse buildKafkaResponse(
+            String topic, List<PendingRecord<T>> batch, List<FailedRecord<T>> unsent,
+            BiFunction<List<T>, List<T>, ImmutableMessageRouterPublishResponse.Builder> response) {
+        final int spilled = unsent.count(f -> f.spilled);
+        final List<FailedRecord<T>> failed = unsent.filter(f -> !f.spilled);
+        if (failed.isEmpty()) {
+            LOGGER.debug("Sent a batch of {} items for topic {} to kafka", batch.size(), topic);
+            return response.apply(batch.map(PendingRecord::item), List.empty())
+                    .spilledItemsCount(spilled)
+                    .build();
+        }
+        failed.forEach(f -> metrics.failed(topic, TransportType.KAFKA, f.error, 1));
+        final Set<PendingRecord<T>> lost = HashSet.ofAll(failed.map(FailedRecord::record));
+        final Tuple2<List<PendingRecord<T>>, List<PendingRecord<T>>> lostAndSent = batch.partition(lost::contains);
+        LOGGER.error("Could not publish {} of {} items for topic {} : {}", lost.size(), batch.size(), topic,
+                failed.head().error.getMessage());
+        return response.apply(lostAndSent._2.map(PendingRecord::item), lostAndSent._1.map(PendingRecord::item))
+                .spilledItemsCount(spilled)
+                .failReason(failed.head().error.getMessage())
+                .build();
+    }
+
+    private byte[] countBytesIn(byte[] payload) {
+        bytesIn.addAndGet(payload.length);
+        return payload;
+    }
+
+    @Override
+    public long bytesIn() {
+        return bytesIn.get();
+    }
+
     @Override
-    public void close() {
-        LOGGER.info("Closing the Kafka Producer");
-        if(kafkaProducer != null) {
+    public long inFlightRecords() {
+        return inFlight.records();
+    }
+
+    @Override
+    public long inFlightBytes() {
+        return inFlight.bytes();
+    }
+
+    @Override
+    public long bytesOut() {
+        return httpBytesOut.get() + producerOutgoingBytes();
+    }
+
+    private long producerOutgoingBytes() {
+        return (long) producerMetric(PRODUCER_OUTGOING_BYTES);
+    }
+
+    /**
+     * @return fraction of the producer {@code buffer.memory} taken by records waiting to be sent
+     */
+    private synchronized double bufferUtilization() {
+        final double total = producerMetric(PRODUCER_BUFFER_TOTAL_BYTES);
+        return total > 0 ? 1 - producerMetric(PRODUCER_BUFFER_AVAILABLE_BYTES) / total : 0;
+    }
+
+    private synchronized double producerMetric(String name) {
+        if (kafkaProducer == null) {
+            return 0;
+        }
+        return kafkaProducer.metrics().entrySet().stream()
+                .filter(metric -> name.equals(metric.getKey().name())
+                        && PRODUCER_METRICS_GROUP.equals(metric.getKey().group()))
+                .map(metric -> metric.getValue().metricValue())
+                .filter(Number.class::isInstance)
+                .mapToDouble(value -> ((Number) value).doubleValue())
+                .sum();
+    }
+
+    private synchronized Producer<String, byte[]> getKafkaProducer() {
+        if (kafkaProducer == null) {
+            producerLease = producerPool.acquire(props);
+            kafkaProducer = producerLease.producer();
+        }
+        return kafkaProducer;
+    }
+
+    private Mono<MessageRouterPublishResponse> buildFailedResponse(String topic, int batchSize, Throwable e) {
+        LOGGER.error("Error while publishing the messages for topic {} : {}", topic, e.getMessage());
+        metrics.failed(topic, TransportType.KAFKA, e, batchSize);
+        return Mono.just(ImmutableMessageRouterPublishResponse.builder()
+                .failReason(e.getMessage())
+                .build());
+    }
+
+    @Override
+    public synchronized void close() {
+        metrics.close();
+        if (sendScheduler != null) {
+            sendScheduler.dispose();
+        }
+        if (spillReplay != null) {
+            spillReplay.shutdownNow();
+            spill.close();
+        }
+        if (producerLease != null) {
+            producerLease.close();
+            producerLease = null;
+        } else if (kafkaProducer != null) {
+            LOGGER.info("Closing the Kafka Producer");
             kafkaProducer.close();
-            kafkaProducer=null;
         }
+        kafkaProducer = null;
     }
     
+    /**
+     * Makes this publisher use the given producer instead of the one shared through the {@link KafkaProducerPool}.
+     * Payloads are decoded as UTF-8 for it, see {@link #setRawKafkaProducer(Producer)} for binary payloads. The
+     * producer is closed together with the publisher.
+     */
     @Override
     public void setKafkaProducer(Producer<String, String> kafkaProducer) {
+        setRawKafkaProducer(new Utf8StringProducer(kafkaProducer));
+    }
+
+    /**
+     * Makes this publisher use the given producer instead of the one shared through the {@link KafkaProducerPool}.
+     * The producer is closed together with the publisher.
+     */
+    @Override
+    public synchronized void setRawKafkaProducer(Producer<String, byte[]> kafkaProducer) {
+        if (producerLease != null) {
+            producerLease.close();
+            producerLease = null;
+        }
         this.kafkaProducer = kafkaProducer;
     }
     
-    public static Future<RecordMetadata> getFuture(){
-        return future;
+    void setProperties(@Nullable KafkaClientConfig kafkaClientConfig) {
+        props = KafkaClientProperties.of(kafkaClientConfig).clientProperties();
     }
-    
-    void setProperties() throws Exception {
-        props = setKafkaPropertiesFromSystemEnv(System.getenv());
-        
-        if(System.getenv(kafkaBootstrapServers) == null) { 
-            LOGGER.error("Environment Variable "+ kafkaBootstrapServers+" is missing");
-            throw new Exception("Environment Variable "+ kafkaBootstrapServers+" is missing");
-        }else {
-            props.put("bootstrap.servers", System.getenv(kafkaBootstrapServers));
-        }
-        if(System.getenv("JAAS_CONFIG") == null) {
-            LOGGER.info("Not using any authentication for kafka interaction");
-        }else {
-            LOGGER.info("Using {} authentication provided for kafka interaction",ScramMechanism.SCRAM_SHA_512.mechanismName());
-            props.put(CommonClientConfigs.SECURITY_PROTOCOL_CONFIG,SecurityProtocol.SASL_PLAINTEXT.name);
-            props.put(SaslConfigs.SASL_MECHANISM, ScramMechanism.SCRAM_SHA_512.mechanismName());
-            props.put(SaslConfigs.SASL_JAAS_CONFIG, System.getenv("JAAS_CONFIG"));
+
+    /**
+     * Maps the batching and compression settings onto the producer, unless they were explicitly given as
+     * properties of the {@link KafkaClientConfig}.
+     */
+    private void setProducerProperties(MessageRouterPublisherConfig config) {
+        if (config.linger() != null) {
+            props.putIfAbsent(ProducerConfig.LINGER_MS_CONFIG, Long.toString(config.linger().toMillis()));
         }
+        props.putIfAbsent(ProducerConfig.BATCH_SIZE_CONFIG, Integer.toString(config.maxBatchSizeInBytes()));
+        props.putIfAbsent(ProducerConfig.COMPRESSION_TYPE_CONFIG, config.compression().kafkaName());
+        setIdempotenceProperties();
     }
-    
-    static List<String> getBatch(Flux<? extends JsonElement> items){
-        java.util.List<String> list = new ArrayList<>();
-        items.map(msg -> msg.toString()).collectList().subscribe(data -> list.addAll(data));
-        return List.ofAll(list);
-        
+
+    /**
+     * Makes retries of the producer neither duplicate nor reorder records. Idempotence requires acknowledgements
+     * from all in-sync replicas, so it is left to the producer defaults when other {@code kafka.acks} were given.
+     */
+    private void setIdempotenceProperties() {
+        props.putIfAbsent(ProducerConfig.ACKS_CONFIG, "all");
+        final String acks = props.get(ProducerConfig.ACKS_CONFIG).toString();
+        if ("all".equals(acks) || "-1".equals(acks)) {
+            props.putIfAbsent(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, "true");
+        }
     }
     
-    private Publisher<? extends MessageRouterPublishResponse> pushBatchToMr(
-            MessageRouterPublishRequest request,
-            List<JsonElement> batch) {
-        LOGGER.debug("Sending a batch of {} items to DMaaP MR", batch.size());
-        LOGGER.trace("The items to be sent: {}", batch);
-        return httpClient.call(buildHttpRequest(request, createBody(batch, request.contentType())))
-                .map(httpResponse -> buildResponse(httpResponse, batch))
+    /**
+     * A serialized item holding its share of the in-flight window until it is acknowledged or dropped.
+     */
+    private static final class PendingRecord<T> {
+        private final T item;
+        private final String key;
+        private final byte[] payload;
+        private final RuntimeException failure;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private PendingRecord(T item, String key, byte[] payload, RuntimeException failure) {
+            this.item = item;
+            this.key = key;
+            this.payload = payload;
+            this.failure = failure;
+        }
+
+        private T item() {
+            return item;
+        }
+
+        private byte[] payload() {
+            return payload;
+        }
+
+        private int size() {
+            return payload == null ? 0 : payload.length;
+        }
+    }
+
+    private static final class FailedRecord<T> {
+        private final PendingRecord<T> record;
+        private final Throwable error;
+        private boolean spilled;
+
+        private FailedRecord(PendingRecord<T> record, Throwable error) {
+            this.record = record;
+            this.error = error;
+        }
+
+        private PendingRecord<T> record() {
+            return record;
+        }
+
+        private boolean retriable() {
+            return error instanceof RetriableException;
+        }
+
+        private boolean hasPayload() {
+            return record.payload != null;
+        }
+    }
+
+    /**
+     * Posts the serialized records of the batch to DMaaP MR. The body is streamed chunk by chunk from the already
+     * serialized payloads, unless it is compressed. Records which could not be serialized are not sent and are
+     * reported as failed.
+     */
+    private <T> Mono<MessageRouterPublishResponse> pushBatchToMr(
+            MessageRouterPublishRequest request, String topic, List<PendingRecord<T>> batch,
+            BiFunction<List<T>, List<T>, ImmutableMessageRouterPublishResponse.Builder> response) {
+        final Tuple2<List<PendingRecord<T>>, List<PendingRecord<T>>> unserializableAndRecords =
+                batch.partition(record -> record.failure != null);
+        final List<PendingRecord<T>> records = unserializableAndRecords._2;
+        final List<T> unserializable = unserializableAndRecords._1.map(PendingRecord::item);
+        unserializableAndRecords._1.forEach(record -> metrics.failed(topic, TransportType.HTTP, record.failure, 1));
+        if (records.isEmpty()) {
+            return metrics.timed(topic, TransportType.HTTP, Mono.just(response.apply(List.empty(), unserializable)
+                    .failReason(unserializableAndRecords._1.head().failure.getMessage())
+                    .build()));
+        }
+        LOGGER.debug("Sending a batch of {} items to DMaaP MR", records.size());
+        LOGGER.trace("The items to be sent: {}", records.map(PendingRecord::item));
+        return metrics.timed(topic, TransportType.HTTP, Mono.defer(() -> httpClient.call(
+                        buildHttpRequest(request, createBody(topic, records, request.contentType()))))
+                .map(httpResponse -> buildResponse(httpResponse, topic, records, unserializable, response))
                 .doOnError(ReadTimeoutException.class,
                         e -> LOGGER.error("Timeout exception occurred when sending items to DMaaP MR", e))
-                .onErrorResume(ReadTimeoutException.class, e -> buildErrorResponse(ClientErrorReasons.TIMEOUT))
+                .onErrorResume(ReadTimeoutException.class,
+                        e -> buildErrorResponse(ClientErrorReasons.TIMEOUT, topic, batch, response))
                 .doOnError(ConnectException.class, e -> LOGGER.error("DMaaP MR is unavailable, {}", e.getMessage()))
-                .onErrorResume(PoolAcquirePendingLimitException.class, e -> buildErrorResponse(ClientErrorReasons.CONNECTION_POLL_LIMIT))
-                .onErrorResume(ConnectException.class, e -> buildErrorResponse(ClientErrorReasons.SERVICE_UNAVAILABLE))
-                .onErrorResume(RetryableException.class, e -> Mono.just(buildResponse(e.getResponse(), batch)));
+                .onErrorResume(PoolAcquirePendingLimitException.class,
+                        e -> buildErrorResponse(ClientErrorReasons.CONNECTION_POLL_LIMIT, topic, batch, response))
+                .onErrorResume(ConnectException.class,
+                        e -> buildErrorResponse(ClientErrorReasons.SERVICE_UNAVAILABLE, topic, batch, response))
+                .onErrorResume(RetryableException.class,
+                        e -> Mono.just(buildResponse(e.getResponse(), topic, records, unserializable, response))));
     }
 
-    private @NotNull RequestBody createBody(List<? extends JsonElement> subItems, ContentType contentType) {
+    private <T> RequestBody createBody(String topic, List<PendingRecord<T>> records, ContentType contentType) {
+        final List<byte[]> chunks;
         if (contentType == ContentType.APPLICATION_JSON) {
-            final JsonArray elements = new JsonArray(subItems.size());
-            subItems.forEach(elements::add);
-            return RequestBody.fromJson(elements);
+            chunks = records.map(PendingRecord::payload)
+                    .intersperse(JSON_ARRAY_SEPARATOR)
+                    .prepend(JSON_ARRAY_START)
+                    .append(JSON_ARRAY_END);
         } else if (contentType == ContentType.TEXT_PLAIN) {
-            String messages = subItems.map(JsonElement::toString)
-                    .collect(Collectors.joining("\n"));
-            return RequestBody.fromString(messages);
+            chunks = records.map(PendingRecord::payload)
+                    .intersperse(PLAIN_SEPARATOR);
         } else throw new IllegalArgumentException("Unsupported content type: " + contentType);
+        if (compression == CompressionType.GZIP) {
+            final byte[] body = compress(chunks);
+            countBytesOut(topic, body);
+            return RequestBody.fromBytes(body);
+        }
+        return RequestBody.chunkedFromBytes(Flux.fromIterable(chunks)
+                .doOnNext(chunk -> countBytesOut(topic, chunk)));
+    }
+
+    private void countBytesOut(String topic, byte[] chunk) {
+        httpBytesOut.addAndGet(chunk.length);
+        metrics.bytesSent(topic, TransportType.HTTP, chunk.length);
+    }
+
+    private static byte[] compress(List<byte[]> chunks) {
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            for (byte[] chunk : chunks) {
+                gzip.write(chunk);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
     }
 
     private @NotNull HttpRequest buildHttpRequest(MessageRouterPublishRequest request, RequestBody body) {
@@ -258,19 +839,31 @@ public class MessageRouterPublisherImpl implements MessageRouterPublisher {
                 .build();
     }
 
-    private MessageRouterPublishResponse buildResponse(
-            HttpResponse httpResponse, List<JsonElement> batch) {
-        final ImmutableMessageRouterPublishResponse.Builder builder =
-                ImmutableMessageRouterPublishResponse.builder();
-
-        return httpResponse.successful()
-                ? builder.items(batch).build()
-                : builder.failReason(extractFailReason(httpResponse)).build();
+    private <T> MessageRouterPublishResponse buildResponse(
+            HttpResponse httpResponse, String topic, List<PendingRecord<T>> records, List<T> unserializable,
+            BiFunction<List<T>, List<T>, ImmutableMessageRouterPublishResponse.Builder> response) {
+        final List<T> items = records.map(PendingRecord::item);
+        if (!httpResponse.successful()) {
+            metrics.failed(topic, TransportType.HTTP,
+                    String.format("%d %s", httpResponse.statusCode(), httpResponse.statusReason()), items.size());
+            return response.apply(List.empty(), items.appendAll(unserializable))
+                    .failReason(extractFailReason(httpResponse))
+                    .build();
+        }
+        records.forEach(this::release);
+        final ImmutableMessageRouterPublishResponse.Builder builder = response.apply(items, unserializable);
+        return unserializable.isEmpty()
+                ? builder.build()
+                : builder.failReason(String.format("Could not serialize %d items", unserializable.size())).build();
     }
 
-    private Mono<MessageRouterPublishResponse> buildErrorResponse(ClientErrorReason clientErrorReason) {
+    private <T> Mono<MessageRouterPublishResponse> buildErrorResponse(
+            ClientErrorReason clientErrorReason, String topic, List<PendingRecord<T>> batch,
+            BiFunction<List<T>, List<T>, ImmutableMessageRouterPublishResponse.Builder> response) {
+        metrics.failed(topic, TransportType.HTTP, clientErrorReason.header(),
+                batch.count(record -> record.failure == null));
         String failReason = clientErrorReasonPresenter.present(clientErrorReason);
-        return Mono.just(ImmutableMessageRouterPublishResponse.builder()
+        return Mono.just(response.apply(List.empty(), batch.map(PendingRecord::item))
                 .failReason(failReason)
                 .build());
     }
@@ -285,6 +878,9 @@ public class MessageRouterPublisherImpl implements MessageRouterPublisher {
                 .map(Commons::basicAuthHeader)
                 .map(HashMap::of)
                 .getOrElse(HashMap.empty());
+        if (compression == CompressionType.GZIP) {
+            headers = headers.put(HttpHeaders.CONTENT_ENCODING, CompressionType.GZIP.kafkaName());
+        }
         return headers.put(HttpHeaders.CONTENT_TYPE, request.contentType().toString());
     }
 
@@ -0,0 +1,77 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.impl;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import io.vavr.collection.List;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.RawMessage;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+
+/**
+ * Decodes bodies of DMaaP MR subscribe responses, which are JSON arrays of messages.
+ *
+ * <p>MR usually returns every message as a JSON string containing the message text; messages returned as plain JSON
+ * values are accepted as well. Streamed responses are split into messages by the {@code JsonArrayDecoder} of the
+ * HTTP client, whole responses are read here with a pull parser, so the array is never built as a whole.</p>
+ */
+final class MessageRouterResponseDecoder {
+
+    private MessageRouterResponseDecoder() {
+    }
+
+    static List<JsonElement> decodeElements(Reader body) {
+        final ArrayList<JsonElement> messages = new ArrayList<>();
+        try (JsonReader reader = new JsonReader(body)) {
+            reader.beginArray();
+            while (reader.hasNext()) {
+                messages.add(reader.peek() == JsonToken.STRING
+                        ? JsonParser.parseString(reader.nextString())
+                        : JsonParser.parseReader(reader));
+            }
+            reader.endArray();
+        } catch (IOException | IllegalStateException e) {
+            throw new JsonSyntaxException("Malformed DMaaP MR response", e);
+        }
+        return List.ofAll(messages);
+    }
+
+    static JsonElement toElement(JsonElement message) {
+        return isText(message) ? JsonParser.parseString(message.getAsString()) : message;
+    }
+
+    static RawMessage toRawMessage(JsonElement message) {
+        final String text = isText(message) ? message.getAsString() : message.toString();
+        return RawMessage.of(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static boolean isText(JsonElement message) {
+        return message.isJsonPrimitive() && message.getAsJsonPrimitive().isString();
+    }
+}
@@ -22,25 +22,25 @@
 package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.impl;
 
 import com.google.gson.Gson;
-import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.netty.handler.timeout.ReadTimeoutException;
 import io.vavr.collection.HashMap;
 import io.vavr.collection.List;
 import io.vavr.collection.Map;
 import io.vavr.control.Option;
 
-import org.apache.kafka.clients.CommonClientConfigs;
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
-import org.apache.kafka.common.config.SaslConfigs;
-import org.apache.kafka.common.security.auth.SecurityProtocol;
-import org.apache.kafka.common.security.scram.internals.ScramMechanism;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.onap.dcaegen2.services.sdk.rest.services.adapters.http.HttpMethod;
 import org.onap.dcaegen2.services.sdk.rest.services.adapters.http.HttpRequest;
 import org.onap.dcaegen2.services.sdk.rest.services.adapters.http.HttpResponse;
@@ -51,28 +51,38 @@ import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.api.MessageRout
 import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.error.ClientErrorReason;
 import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.error.ClientErrorReasonPresenter;
 import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.error.ClientErrorReasons;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.AcknowledgeableElement;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.ImmutableAcknowledgeableElement;
 import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.ImmutableMessageRouterPublishResponse;
 import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.ImmutableMessageRouterSubscribeResponse;
 import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.MessageRouterSubscribeRequest;
 import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.MessageRouterSubscribeResponse;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.RawMessage;
 import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config.DmaapTimeoutConfig;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config.ImmutableMessageRouterSubscriberConfig;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config.KafkaClientConfig;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config.MessageRouterSubscriberConfig;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config.ProcessingOrder;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config.TransportType;
+import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.io.InputStreamReader;
 import java.net.ConnectException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Properties;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.impl.Commons.extractFailReason;
-import static org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.impl.Commons.getTopicFromTopicUrl;
 import static org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.impl.Commons.checkIfTopicIsPresentInKafka;
-import static org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.impl.Commons.setKafkaPropertiesFromSystemEnv;
 
 /**
  * @author <a href="mailto:piotr.jaszczyk@nokia.com">Piotr Jaszczyk</a>
@@ -82,17 +92,61 @@ public class MessageRouterSubscriberImpl implements MessageRouterSubscriber {
     private final RxHttpClient httpClient;
     private final Gson gson;
     private final ClientErrorReasonPresenter clientErrorReasonPresenter;
+    private final Duration pollTimeout;
+    private final int streamingBufferSize;
+    private final Duration commitInterval;
+    private final int commitBatchSize;
+    private final int processingParallelism;
+    private final ProcessingOrder processingOrder;
+    private final TransportType transport;
+    private final SubscriberMetrics metrics;
     private static final Logger LOGGER = LoggerFactory.getLogger(MessageRouterSubscriberImpl.class);
-    private static Properties props;
-    private static final String kafkaBootstrapServers = "BOOTSTRAP_SERVERS";
-    private static Consumer<String, String> consumer;
+    private static final String TOPIC_NOT_FOUND = "404 Topic Not Found";
+    private final KafkaConsumerRegistry<String> consumers;
+    private final KafkaConsumerRegistry<byte[]> rawConsumers;
+    private Properties props;
+    private Properties adminProps;
+    private KafkaTopicMetadataCachePool.Lease topicMetadata;
+    private Consumer<String, String> consumer;
     
     public MessageRouterSubscriberImpl(RxHttpClient httpClient, Gson gson,
                                        ClientErrorReasonPresenter clientErrorReasonPresenter) throws Exception {
+        this(httpClient, ImmutableMessageRouterSubscriberConfig.builder().gsonInstance(gson).build(),
+                clientErrorReasonPresenter);
+    }
+
+    public MessageRouterSubscriberImpl(RxHttpClient httpClient, MessageRouterSubscriberConfig config,
+                                       ClientErrorReasonPresenter clientErrorReasonPresenter) throws Exception {
+        this(httpClient, config, clientErrorReasonPresenter, null);
+    }
+
+    /**
+     * @param meterRegistry registry of the meters described in {@code SubscriberMetrics}, none are recorded when it
+     *     is {@code null}
+     * @since 1.9.5
+     */
+    public MessageRouterSubscriberImpl(RxHttpClient httpClient, MessageRouterSubscriberConfig config,
+                                       ClientErrorReasonPresenter clientErrorReasonPresenter,
+                                       MeterRegistry meterRegistry) throws Exception {
         this.httpClient = httpClient;
-        this.gson = gson;
+        this.gson = config.gsonInstance();
         this.clientErrorReasonPresenter = clientErrorReasonPresenter;
-        setProperties();
+        this.pollTimeout = config.pollTimeout();
+        this.streamingBufferSize = config.streamingBufferSize();
+        this.commitInterval = config.commitInterval();
+        this.commitBatchSize = config.commitBatchSize();
+        this.processingParallelism = config.processingParallelism();
+        this.processingOrder = config.processingOrder();
+        this.transport = config.transport();
+        this.metrics = meterRegistry == null ? SubscriberMetrics.disabled() : new SubscriberMetrics(meterRegistry);
+        this.consumers = new KafkaConsumerRegistry<>(key -> getKafkaConsumer(consumerProperties(key)),
+                config.consumerIdleTimeout());
+        this.rawConsumers = new KafkaConsumerRegistry<>(key -> getRawKafkaConsumer(consumerProperties(key)),
+                config.consumerIdleTimeout());
+        if (transport.usesKafka()) {
+            setProperties(config.kafkaClientConfig());
+            topicMetadata = KafkaTopicMetadataCachePool.instance().acquire(adminProps, meterRegistry);
+        }
     }
     
     /**
@@ -101,116 +155,330 @@ public class MessageRouterSubscriberImpl implements MessageRouterSubscriber {
      * @throws Exception
      */
     public MessageRouterSubscriberImpl() throws Exception {
-        this.httpClient = null;
-        this.gson = null;
-        this.clientErrorReasonPresenter = null;
-        setProperties();
+        this(null, MessageRouterSubscriberConfig.createDefault(), null);
     }
 
+    /**
+     * Gets items over the configured transport. When getting them over both, the items from Kafka are followed by
+     * the ones from DMaaP MR, and the response fails only when both requests failed.
+     */
     @Override
     public Mono<MessageRouterSubscribeResponse> get(MessageRouterSubscribeRequest request) {
+        switch (transport) {
+            case HTTP:
+                return getFromMr(request);
+            case BOTH:
+                return getFromKafka(request).zipWith(getFromMr(request), this::mergeResponses);
+            default:
+                return getFromKafka(request);
+        }
+    }
+
+    /**
+     * The topic check and the poll block, so they run on a bounded elastic thread once subscribed to.
+     */
+    private Mono<MessageRouterSubscribeResponse> getFromKafka(MessageRouterSubscribeRequest request) {
+        return Mono.fromCallable(() -> pollKafka(request))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private MessageRouterSubscribeResponse pollKafka(MessageRouterSubscribeRequest request) {
         LOGGER.info("Requesting new items from DMaaP MR: {}", request);
-        String topic = getTopicFromTopicUrl(request.sourceDefinition().topicUrl());
-       
-        String fakeGroupName = request.consumerGroup(); 
-        props.put("client.id", request.consumerId());
-        props.put("group.id", fakeGroupName);
-        
-        try{
-            if (consumer == null) {
-                if(!checkIfTopicIsPresentInKafka(topic,getAdminProps())) {
-                    LOGGER.error("No such topic exists, TOPIC_NAME : {}", topic);
-                    return Mono.just(ImmutableMessageRouterSubscribeResponse.builder()
-                            .failReason("404 Topic Not Found")
-                            .build());
+        String topic = TopicNames.of(request.sourceDefinition());
+
+        try {
+            final KafkaConsumerRegistry.ConsumerKey key = consumerKey(request, topic);
+            final Consumer<String, String> injectedConsumer = getInjectedConsumer();
+            if (injectedConsumer == null && !consumers.contains(key)
+                    && !checkIfTopicIsPresentInKafka(topic, adminProps)) {
+                LOGGER.error("No such topic exists, TOPIC_NAME : {}", topic);
+                metrics.failed(topic, TransportType.KAFKA, TOPIC_NOT_FOUND);
+                return ImmutableMessageRouterSubscribeResponse.builder()
+                        .failReason(TOPIC_NOT_FOUND)
+                        .build();
+            }
+            ArrayList<String> msgs = new ArrayList<>();
+
+            final ConsumerRecords<String, String> records;
+            if (injectedConsumer != null) {
+                synchronized (injectedConsumer) {
+                    records = metrics.poll(injectedConsumer, pollTimeout, topic, request.consumerGroup());
                 }
-                consumer = getKafkaConsumer(props);
-                consumer.subscribe(Arrays.asList(topic));
+            } else {
+                records = consumers.withConsumer(key,
+                        kafkaConsumer -> metrics.poll(kafkaConsumer, pollTimeout, topic, request.consumerGroup()));
             }
-        ArrayList<String> msgs = new ArrayList<>();
-        
-            ConsumerRecords<String, String> records = null;
-            synchronized (consumer) {
-                records = consumer.poll(Duration.ofMillis(500));
+            for (ConsumerRecord<String, String> rec : records) {
+                msgs.add(rec.value());
             }
-                for (ConsumerRecord<String, String> rec : records) {
-                    msgs.add(rec.value());
-                }
             List<JsonElement> list = List.ofAll(msgs).map(r -> JsonParser.parseString(r));
-            return Mono.just(ImmutableMessageRouterSubscribeResponse.builder()
+            return ImmutableMessageRouterSubscribeResponse.builder()
                     .items(list)
-                    .build());
+                    .build();
         } catch(Exception e) {
             LOGGER.error("Error while consuming the messages : {}",e.getMessage());
-            return Mono.just(ImmutableMessageRouterSubscribeResponse.builder()
+            metrics.failed(topic, TransportType.KAFKA, e);
+            return ImmutableMessageRouterSubscribeResponse.builder()
                     .failReason(e.getMessage())
-                    .build());
+                    .build();
         }
     }
-    
+
+    @Override
+    public Flux<JsonElement> subscribeForElements(MessageRouterSubscribeRequest request) {
+        return overTransport(() -> subscribeForElementsFromKafka(request),
+                () -> pollMr(request).map(MessageRouterResponseDecoder::toElement));
+    }
+
+    private Flux<JsonElement> subscribeForElementsFromKafka(MessageRouterSubscribeRequest request) {
+        final String topic = TopicNames.of(request.sourceDefinition());
+        final KafkaStreamingSubscription<String> subscription = new KafkaStreamingSubscription<>(
+                () -> getKafkaConsumer(consumerProperties(request.consumerGroup(), request.consumerId())),
+                topic, request.consumerGroup(), streamingBufferSize, pollTimeout, metrics);
+        return whenTopicExists(topic, subscription::records)
+                .map(rec -> JsonParser.parseString(rec.value()));
+    }
+
+    /**
+     * Acknowledgements are Kafka offset commits, so only items consumed from Kafka are emitted, also when DMaaP MR is
+     * used as well.
+     */
+    @Override
+    public Flux<AcknowledgeableElement> subscribeForAcknowledgeableElements(MessageRouterSubscribeRequest request) {
+        if (!transport.usesKafka()) {
+            return Flux.error(new UnsupportedOperationException(
+                    "Acknowledgeable elements can be consumed only from Kafka"));
+        }
+        final String topic = TopicNames.of(request.sourceDefinition());
+        final KafkaStreamingSubscription<String> subscription = acknowledgeableSubscription(request, topic);
+        return whenTopicExists(topic, subscription::acknowledgeableRecords)
+                .map(rec -> ImmutableAcknowledgeableElement.builder()
+                        .element(JsonParser.parseString(rec.record().value()))
+                        .topic(rec.record().topic())
+                        .partition(rec.record().partition())
+                        .offset(rec.record().offset())
+                        .acknowledgement(rec::acknowledge)
+                        .build());
+    }
+
+    /**
+     * Like acknowledgeable elements, only items consumed from Kafka are processed. The elements are decoded on the
+     * processing threads.
+     */
+    @Override
+    public <R> Flux<R> subscribeForElementsInParallel(MessageRouterSubscribeRequest request,
+            Function<? super JsonElement, ? extends Publisher<? extends R>> processor) {
+        if (!transport.usesKafka()) {
+            return Flux.error(new UnsupportedOperationException(
+                    "Elements can be processed in parallel only when consumed from Kafka"));
+        }
+        final String topic = TopicNames.of(request.sourceDefinition());
+        final KafkaStreamingSubscription<String> subscription = acknowledgeableSubscription(request, topic);
+        return whenTopicExists(topic, () -> subscription.<R>processInParallel(
+                rec -> processor.apply(JsonParser.parseString(rec.value())), processingParallelism, processingOrder));
+    }
+
+    private KafkaStreamingSubscription<String> acknowledgeableSubscription(MessageRouterSubscribeRequest request,
+                                                                           String topic) {
+        return new KafkaStreamingSubscription<>(
+                () -> {
+                    final Properties consumerProps = consumerProperties(request.consumerGroup(), request.consumerId());
+                    consumerProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+                    return getKafkaConsumer(consumerProps);
+                },
+                topic, request.consumerGroup(), streamingBufferSize, pollTimeout, commitInterval, commitBatchSize,
+                metrics);
+    }
+
+    @Override
+    public Flux<RawMessage> getRawElements(MessageRouterSubscribeRequest request) {
+        return overTransport(() -> getRawElementsFromKafka(request),
+                () -> getFromMrAsStream(request).map(MessageRouterResponseDecoder::toRawMessage));
+    }
+
+    private Flux<RawMessage> getRawElementsFromKafka(MessageRouterSubscribeRequest request) {
+        final String topic = TopicNames.of(request.sourceDefinition());
+        final KafkaConsumerRegistry.ConsumerKey key = consumerKey(request, topic);
+        return Mono.fromCallable(() -> rawConsumers.contains(key)
+                        || checkIfTopicIsPresentInKafka(topic, adminProps))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapIterable(topicExists -> {
+                    if (!topicExists) {
+                        metrics.failed(topic, TransportType.KAFKA, TOPIC_NOT_FOUND);
+                        throw new IllegalStateException(TOPIC_NOT_FOUND);
+                    }
+                    try {
+                        return rawConsumers.withConsumer(key, kafkaConsumer ->
+                                metrics.poll(kafkaConsumer, pollTimeout, topic, request.consumerGroup()));
+                    } catch (RuntimeException e) {
+                        metrics.failed(topic, TransportType.KAFKA, e);
+                        throw e;
+                    }
+                })
+                .map(rec -> RawMessage.of(rec.value()));
+    }
+
     @Override
-    public void setConsumer(Consumer<String, String> consumer) {
-        MessageRouterSubscriberImpl.consumer = consumer;
+    public Flux<RawMessage> subscribeForRawElements(MessageRouterSubscribeRequest request) {
+        return overTransport(() -> subscribeForRawElementsFromKafka(request),
+                () -> pollMr(request).map(MessageRouterResponseDecoder::toRawMessage));
+    }
+
+    private Flux<RawMessage> subscribeForRawElementsFromKafka(MessageRouterSubscribeRequest request) {
+        final String topic = TopicNames.of(request.sourceDefinition());
+        final KafkaStreamingSubscription<byte[]> subscription = new KafkaStreamingSubscription<>(
+                () -> getRawKafkaConsumer(consumerProperties(request.consumerGroup(), request.consumerId())),
+                topic, request.consumerGroup(), streamingBufferSize, pollTimeout, metrics);
+        return whenTopicExists(topic, subscription::records)
+                .map(rec -> RawMessage.of(rec.value()));
+    }
+
+    private <T> Flux<T> overTransport(Supplier<Flux<T>> fromKafka, Supplier<Flux<T>> fromMr) {
+        switch (transport) {
+            case HTTP:
+                return fromMr.get();
+            case BOTH:
+                return Flux.merge(fromKafka.get(), fromMr.get());
+            default:
+                return fromKafka.get();
+        }
+    }
+
+    private MessageRouterSubscribeResponse mergeResponses(MessageRouterSubscribeResponse fromKafka,
+                                                          MessageRouterSubscribeResponse fromMr) {
+        if (fromKafka.failed() && fromMr.failed()) {
+            return ImmutableMessageRouterSubscribeResponse.builder()
+                    .failReason(String.format("Kafka: %s, DMaaP MR: %s", fromKafka.failReason(), fromMr.failReason()))
+                    .build();
+        }
+        if (fromKafka.failed()) {
+            LOGGER.warn("Could not get items from Kafka : {}", fromKafka.failReason());
+            return fromMr;
+        }
+        if (fromMr.failed()) {
+            LOGGER.warn("Could not get items from DMaaP MR : {}", fromMr.failReason());
+            return fromKafka;
+        }
+        return ImmutableMessageRouterSubscribeResponse.builder()
+                .items(fromKafka.items().appendAll(fromMr.items()))
+                .build();
+    }
+
+    private <T> Flux<T> whenTopicExists(String topic, Supplier<Flux<T>> source) {
+        return Mono.fromCallable(() -> checkIfTopicIsPresentInKafka(topic, adminProps))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(topicExists -> {
+                    if (topicExists) {
+                        return source.get();
+                    }
+                    metrics.failed(topic, TransportType.KAFKA, TOPIC_NOT_FOUND);
+                    return Flux.error(new IllegalStateException(TOPIC_NOT_FOUND));
+                });
+    }
+
+    private static KafkaConsumerRegistry.ConsumerKey consumerKey(MessageRouterSubscribeRequest request,
+                                                                 String topic) {
+        return new KafkaConsumerRegistry.ConsumerKey(topic, request.consumerGroup(), request.consumerId());
+    }
+
+    private Properties consumerProperties(KafkaConsumerRegistry.ConsumerKey key) {
+        return consumerProperties(key.consumerGroup(), key.consumerId());
+    }
+
+    private Properties consumerProperties(String consumerGroup, String consumerId) {
+        final Properties consumerProps = new Properties();
+        consumerProps.putAll(props);
+        consumerProps.put("client.id", consumerId);
+        consumerProps.put("group.id", consumerGroup);
+        return consumerProps;
+    }
+
+    private synchronized Consumer<String, String> getInjectedConsumer() {
+        return consumer;
+    }
+
+    /**
+     * Makes {@link #get(MessageRouterSubscribeRequest)} poll the given consumer for every request instead of the
+     * consumers created per topic, consumer group and consumer id.
+     */
+    @Override
+    public synchronized void setConsumer(Consumer<String, String> consumer) {
+        this.consumer = consumer;
     }
     
     public static KafkaConsumer<String, String> getKafkaConsumer(Properties props){
         return new KafkaConsumer<>(props);
     }
+
+    static KafkaConsumer<String, byte[]> getRawKafkaConsumer(Properties props) {
+        return new KafkaConsumer<>(props, new StringDeserializer(), new ByteArrayDeserializer());
+    }
     
     @Override
-    public void close(){
+    public synchronized void close(){
         if(consumer != null) {
             LOGGER.info("Closing the Kafka Consumer");
-            consumer.close();
+            synchronized (consumer) {
+                consumer.close();
+            }
             consumer = null;
         }
-        Commons.closeKafkaAdminClient();
+        consumers.close();
+        rawConsumers.close();
+        if (topicMetadata != null) {
+            topicMetadata.close();
+            topicMetadata = null;
+        }
     }
     
-    void setProperties() throws Exception {
-        props = setKafkaPropertiesFromSystemEnv(System.getenv());
-        
-        if(System.getenv(kafkaBootstrapServers) == null) { 
-            LOGGER.error("Environment Variable "+ kafkaBootstrapServers+" is missing");
-            throw new Exception("Environment Variable "+ kafkaBootstrapServers+" is missing");
-        }else {
-            props.put("bootstrap.servers", System.getenv(kafkaBootstrapServers));
-        }
+    void setProperties(@Nullable KafkaClientConfig kafkaClientConfig) {
+        final KafkaClientProperties kafkaProperties = KafkaClientProperties.of(kafkaClientConfig);
+        props = kafkaProperties.clientProperties();
         props.put(ConsumerConfig.ALLOW_AUTO_CREATE_TOPICS_CONFIG,false);
-        
-        if(System.getenv("JAAS_CONFIG") == null) {
-            LOGGER.info("Not using any authentication for kafka interaction");
-        }else {
-            LOGGER.info("Using {} authentication provided for kafka interaction",ScramMechanism.SCRAM_SHA_512.mechanismName());
-            props.put(CommonClientConfigs.SECURITY_PROTOCOL_CONFIG,SecurityProtocol.SASL_PLAINTEXT.name);
-            props.put(SaslConfigs.SASL_MECHANISM, ScramMechanism.SCRAM_SHA_512.mechanismName());
-            props.put(SaslConfigs.SASL_JAAS_CONFIG, System.getenv("JAAS_CONFIG"));
-        }     
-    }
-      
-//    @Override
-//    public Mono<MessageRouterSubscribeResponse> get(MessageRouterSubscribeRequest request) {
-//        LOGGER.debug("Requesting new items from DMaaP MR: {}", request);
-//        return httpClient.call(buildGetHttpRequest(request))
-//                .map(this::buildGetResponse)
-//                .doOnError(ReadTimeoutException.class,
-//                        e -> LOGGER.error("Timeout exception occurred when subscribe items from DMaaP MR", e))
-//                .onErrorResume(ReadTimeoutException.class, e -> buildErrorResponse(ClientErrorReasons.TIMEOUT))
-//                .doOnError(ConnectException.class, e -> LOGGER.error("DMaaP MR is unavailable, {}", e.getMessage()))
-//                .onErrorResume(ConnectException.class, e -> buildErrorResponse(ClientErrorReasons.SERVICE_UNAVAILABLE))
-//                .onErrorResume(RetryableException.class, e -> Mono.just(buildGetResponse(e.getResponse())));
-//    }
+        adminProps = kafkaProperties.adminProperties();
+    }
+
+    /**
+     * @return properties of the admin client of the Kafka cluster given by the environment
+     */
     public static Properties getAdminProps() {
-        Properties adminProps = new Properties();
-        adminProps.put("bootstrap.servers", System.getenv(kafkaBootstrapServers));
-        if(System.getenv("JAAS_CONFIG") != null) {
-            adminProps.put(CommonClientConfigs.SECURITY_PROTOCOL_CONFIG,SecurityProtocol.SASL_PLAINTEXT.name);
-            adminProps.put(SaslConfigs.SASL_MECHANISM, ScramMechanism.SCRAM_SHA_512.mechanismName());
-            adminProps.put(SaslConfigs.SASL_JAAS_CONFIG, System.getenv("JAAS_CONFIG"));
-        }
-        return adminProps;
+        return KafkaClientProperties.fromEnvironment().adminProperties();
     }
     
+    private Mono<MessageRouterSubscribeResponse> getFromMr(MessageRouterSubscribeRequest request) {
+        LOGGER.debug("Requesting new items from DMaaP MR: {}", request);
+        final String topic = TopicNames.of(request.sourceDefinition());
+        return metrics.timed(topic, httpClient.call(buildGetHttpRequest(request)))
+                .map(httpResponse -> buildGetResponse(topic, httpResponse))
+                .doOnError(e -> !(e instanceof RetryableException), e -> metrics.failed(topic, TransportType.HTTP, e))
+                .doOnError(ReadTimeoutException.class,
+                        e -> LOGGER.error("Timeout exception occurred when subscribe items from DMaaP MR", e))
+                .onErrorResume(ReadTimeoutException.class, e -> buildErrorResponse(ClientErrorReasons.TIMEOUT))
+                .doOnError(ConnectException.class, e -> LOGGER.error("DMaaP MR is unavailable, {}", e.getMessage()))
+                .onErrorResume(ConnectException.class, e -> buildErrorResponse(ClientErrorReasons.SERVICE_UNAVAILABLE))
+                .onErrorResume(RetryableException.class, e -> Mono.just(buildGetResponse(topic, e.getResponse())));
+    }
+
+    /**
+     * Keeps getting messages from DMaaP MR, waiting for the poll timeout after every empty response. Messages are
+     * emitted while the response is being received. An unsuccessful response ends the subscription with an error.
+     */
+    private Flux<JsonElement> pollMr(MessageRouterSubscribeRequest request) {
+        return getFromMrAsStream(request)
+                .switchIfEmpty(Mono.delay(pollTimeout).then(Mono.empty()))
+                .repeat();
+    }
+
+    private Flux<JsonElement> getFromMrAsStream(MessageRouterSubscribeRequest request) {
+        final String topic = TopicNames.of(request.sourceDefinition());
+        return Flux.defer(() -> {
+            final Counter received = metrics.records(topic, TransportType.HTTP);
+            return metrics.timed(topic, httpClient.callForJsonArray(buildGetHttpRequest(request)))
+                    .doOnNext(element -> received.increment())
+                    .doOnError(e -> metrics.failed(topic, TransportType.HTTP, e));
+        });
+    }
+
     private @NotNull HttpRequest buildGetHttpRequest(MessageRouterSubscribeRequest request) {
         return ImmutableHttpRequest.builder()
                 .method(HttpMethod.GET)
@@ -221,19 +489,22 @@ public class MessageRouterSubscriberImpl implements MessageRouterSubscriber {
                 .build();
     }
 
-    private @NotNull MessageRouterSubscribeResponse buildGetResponse(HttpResponse httpResponse) {
+    private @NotNull MessageRouterSubscribeResponse buildGetResponse(String topic, HttpResponse httpResponse) {
         final ImmutableMessageRouterSubscribeResponse.Builder builder =
                 ImmutableMessageRouterSubscribeResponse.builder();
-        return httpResponse.successful()
-                ? builder.items(getAsJsonElements(httpResponse)).build()
-                : builder.failReason(extractFailReason(httpResponse)).build();
+        if (!httpResponse.successful()) {
+            metrics.failed(topic, TransportType.HTTP,
+                    String.format("%d %s", httpResponse.statusCode(), httpResponse.statusReason()));
+            return builder.failReason(extractFailReason(httpResponse)).build();
+        }
+        final List<JsonElement> items = getAsJsonElements(httpResponse);
+        metrics.records(topic, TransportType.HTTP).increment(items.size());
+        return builder.items(items).build();
     }
 
     private List<JsonElement> getAsJsonElements(HttpResponse httpResponse) {
-        JsonArray bodyAsJsonArray = httpResponse
-                .bodyAsJson(StandardCharsets.UTF_8, gson, JsonArray.class);
-
-        return List.ofAll(bodyAsJsonArray).map(arrayElement -> JsonParser.parseString(arrayElement.getAsString()));
+        return MessageRouterResponseDecoder.decodeElements(
+                new InputStreamReader(httpResponse.bodyAsInputStream(), StandardCharsets.UTF_8));
     }
 
     private String buildSubscribeUrl(MessageRouterSubscribeRequest request) {
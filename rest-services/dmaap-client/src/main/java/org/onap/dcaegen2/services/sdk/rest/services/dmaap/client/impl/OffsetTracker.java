@@ -0,0 +1,121 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.impl;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Tracks acknowledgements of consumed records and computes offsets which are safe to commit.
+ *
+ * <p>Records may be acknowledged in any order, but the offset committed for a partition never passes a record
+ * which was delivered and not yet acknowledged, so committed offsets always cover a contiguous prefix of
+ * processed records.</p>
+ */
+final class OffsetTracker {
+
+    private final Map<TopicPartition, PartitionState> partitions = new HashMap<>();
+    private int acknowledgedSinceLastCommit;
+
+    /**
+     * Registers a delivered record.
+     *
+     * @return acknowledgement of the record; acknowledgements of partitions revoked in the meantime are ignored
+     */
+    synchronized Runnable track(ConsumerRecord<?, ?> rec) {
+        final PartitionState state = partitions.computeIfAbsent(
+                new TopicPartition(rec.topic(), rec.partition()), tp -> new PartitionState());
+        final long offset = rec.offset();
+        state.delivered(offset);
+        return () -> acknowledge(state, offset);
+    }
+
+    private synchronized void acknowledge(PartitionState state, long offset) {
+        if (state.acknowledged(offset)) {
+            acknowledgedSinceLastCommit++;
+        }
+    }
+
+    synchronized int acknowledgedSinceLastCommit() {
+        return acknowledgedSinceLastCommit;
+    }
+
+    /**
+     * Offsets of all partitions which advanced since they were last taken.
+     */
+    synchronized Map<TopicPartition, OffsetAndMetadata> takeCommittable() {
+        acknowledgedSinceLastCommit = 0;
+        return takeCommittable(partitions.keySet());
+    }
+
+    /**
+     * Forgets the given partitions, returning their offsets which were not yet taken.
+     */
+    synchronized Map<TopicPartition, OffsetAndMetadata> revoke(Collection<TopicPartition> revoked) {
+        final Map<TopicPartition, OffsetAndMetadata> committable = takeCommittable(revoked);
+        revoked.forEach(tp -> {
+            final PartitionState state = partitions.remove(tp);
+            if (state != null) {
+                state.revoked = true;
+            }
+        });
+        return committable;
+    }
+
+    private Map<TopicPartition, OffsetAndMetadata> takeCommittable(Collection<TopicPartition> candidates) {
+        final Map<TopicPartition, OffsetAndMetadata> committable = new HashMap<>();
+        for (TopicPartition tp : candidates) {
+            final PartitionState state = partitions.get(tp);
+            if (state != null && state.nextCommit() > state.committed) {
+                state.committed = state.nextCommit();
+                committable.put(tp, new OffsetAndMetadata(state.committed));
+            }
+        }
+        return committable;
+    }
+
+    private static final class PartitionState {
+        private final TreeSet<Long> unacknowledged = new TreeSet<>();
+        private long nextDelivered = -1;
+        private long committed = -1;
+        private boolean revoked;
+
+        void delivered(long offset) {
+            unacknowledged.add(offset);
+            nextDelivered = Math.max(nextDelivered, offset + 1);
+        }
+
+        boolean acknowledged(long offset) {
+            return !revoked && unacknowledged.remove(offset);
+        }
+
+        long nextCommit() {
+            return unacknowledged.isEmpty() ? nextDelivered : unacknowledged.first();
+        }
+    }
+}
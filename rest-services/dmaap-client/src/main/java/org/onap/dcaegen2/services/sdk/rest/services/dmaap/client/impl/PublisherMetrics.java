@@ -0,0 +1,173 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.MessageRouterPublishResponse;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config.TransportType;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Meters of a publisher.
+ *
+ * <ul>
+ *     <li>{@value #RECORDS} - records by topic, transport and outcome ({@code sent}, {@code failed}, {@code spilled}
+ *     or {@code replayed})</li>
+ *     <li>{@value #BYTES} - bytes of the sent records by topic and transport; over HTTP these are the request bodies,
+ *     after compression</li>
+ *     <li>{@value #BATCH_SIZE} - records per batch by topic</li>
+ *     <li>{@value #SEND} - time until a batch was acknowledged, or given up on, by topic, transport and outcome
+ *     ({@code success} or {@code failure}), with a percentile histogram</li>
+ *     <li>{@value #FAILURES} - failed records by topic, transport and reason; the reason is the header of the
+ *     {@code ClientErrorReason}, the HTTP status or the simple class name of the error</li>
+ *     <li>{@value #IN_FLIGHT_RECORDS}, {@value #IN_FLIGHT_BYTES} - the in-flight window</li>
+ *     <li>{@value #BUFFER_UTILIZATION} - used fraction of the Kafka producer {@code buffer.memory}</li>
+ *     <li>{@value #SPILLED_RECORDS} - records waiting in the spill queue</li>
+ * </ul>
+ *
+ * <p>The gauges belong to a single publisher, they are tagged with its id and removed when it is closed.</p>
+ */
+final class PublisherMetrics {
+    static final String RECORDS = "dmaap.client.publisher.records";
+    static final String BYTES = "dmaap.client.publisher.bytes";
+    static final String BATCH_SIZE = "dmaap.client.publisher.batch.size";
+    static final String SEND = "dmaap.client.publisher.send";
+    static final String FAILURES = "dmaap.client.publisher.failures";
+    static final String IN_FLIGHT_RECORDS = "dmaap.client.publisher.in.flight.records";
+    static final String IN_FLIGHT_BYTES = "dmaap.client.publisher.in.flight.bytes";
+    static final String BUFFER_UTILIZATION = "dmaap.client.publisher.buffer.utilization";
+    static final String SPILLED_RECORDS = "dmaap.client.publisher.spilled.records";
+
+    static final String TOPIC_TAG = "topic";
+    static final String TRANSPORT_TAG = "transport";
+    static final String OUTCOME_TAG = "outcome";
+    static final String REASON_TAG = "reason";
+    static final String PUBLISHER_TAG = "publisher";
+
+    private static final AtomicLong PUBLISHER_IDS = new AtomicLong();
+
+    private final MeterRegistry registry;
+    private final String publisherId = "publisher-" + PUBLISHER_IDS.incrementAndGet();
+    private final List<Meter> gauges = new CopyOnWriteArrayList<>();
+
+    PublisherMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * @return metrics recording nothing, used when no registry was given
+     */
+    static PublisherMetrics disabled() {
+        return new PublisherMetrics(new CompositeMeterRegistry());
+    }
+
+    <T> void gauge(String name, T obj, ToDoubleFunction<T> value) {
+        gauges.add(Gauge.builder(name, obj, value)
+                .tag(PUBLISHER_TAG, publisherId)
+                .strongReference(false)
+                .register(registry));
+    }
+
+    /**
+     * Removes the gauges of the publisher.
+     */
+    void close() {
+        gauges.forEach(registry::remove);
+        gauges.clear();
+    }
+
+    void batch(String topic, int size) {
+        DistributionSummary.builder(BATCH_SIZE)
+                .baseUnit("records")
+                .tag(TOPIC_TAG, topic)
+                .register(registry)
+                .record(size);
+    }
+
+    /**
+     * Times sending a batch over one transport, and counts its records by the response.
+     */
+    Mono<MessageRouterPublishResponse> timed(String topic, TransportType transport,
+                                             Mono<MessageRouterPublishResponse> push) {
+        return Mono.defer(() -> {
+            final Timer.Sample sample = Timer.start(registry);
+            return push.doOnNext(response -> {
+                sample.stop(Timer.builder(SEND)
+                        .tags(TOPIC_TAG, topic, TRANSPORT_TAG, tagValue(transport),
+                                OUTCOME_TAG, response.successful() ? "success" : "failure")
+                        .publishPercentileHistogram()
+                        .register(registry));
+                records(topic, transport, "sent", response.itemsCount() - response.spilledItemsCount());
+                records(topic, transport, "spilled", response.spilledItemsCount());
+                records(topic, transport, "failed", response.failedItemsCount());
+            });
+        });
+    }
+
+    void replayed(String topic) {
+        records(topic, TransportType.KAFKA, "replayed", 1);
+    }
+
+    void bytesSent(String topic, TransportType transport, long bytes) {
+        Counter.builder(BYTES)
+                .baseUnit("bytes")
+                .tags(TOPIC_TAG, topic, TRANSPORT_TAG, tagValue(transport))
+                .register(registry)
+                .increment(bytes);
+    }
+
+    void failed(String topic, TransportType transport, String reason, int count) {
+        Counter.builder(FAILURES)
+                .tags(TOPIC_TAG, topic, TRANSPORT_TAG, tagValue(transport), REASON_TAG, reason)
+                .register(registry)
+                .increment(count);
+    }
+
+    void failed(String topic, TransportType transport, Throwable error, int count) {
+        failed(topic, transport, error.getClass().getSimpleName(), count);
+    }
+
+    private void records(String topic, TransportType transport, String outcome, int count) {
+        if (count > 0) {
+            Counter.builder(RECORDS)
+                    .tags(TOPIC_TAG, topic, TRANSPORT_TAG, tagValue(transport), OUTCOME_TAG, outcome)
+                    .register(registry)
+                    .increment(count);
+        }
+    }
+
+    static String tagValue(TransportType transport) {
+        return transport.name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,366 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32C;
+import java.util.stream.Stream;
+
+/**
+ * Persistent FIFO queue of records, stored as an append-only log of memory-mapped segment files.
+ *
+ * <p>Every segment starts with the position of its first record not yet removed, followed by records framed as
+ * {@code length, checksum, topic, key, payload}. The length of a frame is written after its contents, so a frame
+ * torn by a crash of the process is never read back. A crash of the host may write pages back out of order, so the
+ * CRC32C of the contents of every frame is verified when the queue is recovered, and a segment is read up to its
+ * first corrupt frame. Fully consumed segments are deleted. The queue is recovered from the directory when it is
+ * created, so records survive restarts; a record removed just before a crash may be read again.</p>
+ *
+ * <p>A directory must not be used by more than one queue at a time.</p>
+ */
+final class SpillQueue implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SpillQueue.class);
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".spill";
+    private static final int HEADER_SIZE = Long.BYTES;
+    private static final int FRAME_HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int NULL_LENGTH = -1;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private long nextSegmentId;
+    private long records;
+
+    SpillQueue(Path directory, int segmentSize, long maxSize) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = (int) Math.max(1, maxSize / segmentSize);
+        Files.createDirectories(directory);
+        for (Path path : existingSegments()) {
+            final Segment segment = Segment.recover(path, segmentSize);
+            segments.add(segment);
+            records += segment.countRecords();
+            nextSegmentId = segmentId(path) + 1;
+        }
+        if (records > 0) {
+            LOGGER.info("Recovered {} spilled records from {}", records, directory);
+        }
+    }
+
+    /**
+     * Appends the records and flushes them to disk.
+     *
+     * @return number of records appended, fewer than given when the size limit of the queue was reached
+     */
+    synchronized int appendAll(List<Record> toAppend) throws IOException {
+        int appended = 0;
+        try {
+            for (Record record : toAppend) {
+                if (!append(record)) {
+                    break;
+                }
+                appended++;
+            }
+        } finally {
+            if (!segments.isEmpty()) {
+                segments.getLast().buffer.force();
+            }
+        }
+        records += appended;
+        return appended;
+    }
+
+    private boolean append(Record record) throws IOException {
+        final int frameSize = FRAME_HEADER_SIZE + record.encodedSize();
+        if (frameSize > segmentSize - HEADER_SIZE) {
+            LOGGER.warn("A record of {} bytes exceeds the spill segment size", frameSize);
+            return false;
+        }
+        if (segments.isEmpty() || !segments.getLast().fits(frameSize)) {
+            dropConsumedSegments(true);
+            if (segments.size() >= maxSegments) {
+                return false;
+            }
+            if (!segments.isEmpty()) {
+                segments.getLast().buffer.force();
+            }
+            segments.add(Segment.open(directory.resolve(segmentName(nextSegmentId++)), segmentSize));
+        }
+        segments.getLast().append(record);
+        return true;
+    }
+
+    /**
+     * @return up to {@code max} oldest records, without removing them
+     */
+    synchronized List<Record> peek(int max) {
+        final List<Record> peeked = new ArrayList<>();
+        for (Segment segment : segments) {
+            segment.peek(max - peeked.size(), peeked);
+            if (peeked.size() >= max) {
+                break;
+            }
+        }
+        return peeked;
+    }
+
+    /**
+     * Removes the given number of oldest records.
+     */
+    synchronized void remove(int count) throws IOException {
+        int remaining = count;
+        for (Segment segment : segments) {
+            if (remaining == 0) {
+                break;
+            }
+            remaining -= segment.remove(remaining);
+        }
+        records -= count - remaining;
+        dropConsumedSegments(false);
+    }
+
+    /**
+     * Deletes the oldest segments without records left. The segment being appended to is kept, unless it is full.
+     */
+    private void dropConsumedSegments(boolean includingLast) throws IOException {
+        while (!segments.isEmpty() && segments.getFirst().consumed()
+                && (segments.size() > 1 || includingLast)) {
+            segments.removeFirst().delete();
+        }
+    }
+
+    synchronized long size() {
+        return records;
+    }
+
+    synchronized boolean isEmpty() {
+        return records == 0;
+    }
+
+    @Override
+    public synchronized void close() {
+        segments.forEach(segment -> segment.buffer.force());
+        segments.clear();
+    }
+
+    private List<Path> existingSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX)
+                    && path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static String segmentName(long id) {
+        return String.format("%s%020d%s", SEGMENT_PREFIX, id, SEGMENT_SUFFIX);
+    }
+
+    private static long segmentId(Path path) {
+        final String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * A record waiting in the queue.
+     */
+    static final class Record {
+        private final String topic;
+        private final String key;
+        private final byte[] payload;
+
+        Record(String topic, String key, byte[] payload) {
+            this.topic = topic;
+            this.key = key;
+            this.payload = payload;
+        }
+
+        String topic() {
+            return topic;
+        }
+
+        String key() {
+            return key;
+        }
+
+        byte[] payload() {
+            return payload;
+        }
+
+        private int encodedSize() {
+            return 3 * Integer.BYTES + utf8(topic).length + (key == null ? 0 : utf8(key).length) + payload.length;
+        }
+
+        private void writeTo(ByteBuffer buffer) {
+            putField(buffer, utf8(topic));
+            putField(buffer, key == null ? null : utf8(key));
+            putField(buffer, payload);
+        }
+
+        private static Record readFrom(ByteBuffer buffer) {
+            final byte[] topic = getField(buffer);
+            final byte[] key = getField(buffer);
+            return new Record(new String(topic, StandardCharsets.UTF_8),
+                    key == null ? null : new String(key, StandardCharsets.UTF_8), getField(buffer));
+        }
+
+        private static byte[] utf8(String text) {
+            return text.getBytes(StandardCharsets.UTF_8);
+        }
+
+        private static void putField(ByteBuffer buffer, byte[] field) {
+            if (field == null) {
+                buffer.putInt(NULL_LENGTH);
+            } else {
+                buffer.putInt(field.length).put(field);
+            }
+        }
+
+        private static byte[] getField(ByteBuffer buffer) {
+            final int length = buffer.getInt();
+            if (length == NULL_LENGTH) {
+                return null;
+            }
+            final byte[] field = new byte[length];
+            buffer.get(field);
+            return field;
+        }
+    }
+
+    private static final class Segment {
+        private final Path path;
+        private final MappedByteBuffer buffer;
+        private int readPosition;
+        private int writePosition;
+
+        private Segment(Path path, MappedByteBuffer buffer) {
+            this.path = path;
+            this.buffer = buffer;
+            this.readPosition = Math.max(HEADER_SIZE, (int) buffer.getLong(0));
+            this.writePosition = readPosition;
+            int length;
+            while (writePosition + FRAME_HEADER_SIZE <= buffer.capacity()
+                    && (length = buffer.getInt(writePosition)) > 0) {
+                if (writePosition + FRAME_HEADER_SIZE + length > buffer.capacity()
+                        || buffer.getInt(writePosition + Integer.BYTES) != checksum(writePosition, length)) {
+                    LOGGER.warn("Ignoring the corrupt spilled records of {} from position {}", path, writePosition);
+                    break;
+                }
+                writePosition += FRAME_HEADER_SIZE + length;
+            }
+        }
+
+        static Segment open(Path path, int size) throws IOException {
+            try (FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                return new Segment(path, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+            }
+        }
+
+        /**
+         * Opens an existing segment with the size it was created with, which may differ from the current one.
+         */
+        static Segment recover(Path path, int size) throws IOException {
+            final long existingSize = Files.size(path);
+            return open(path, existingSize >= HEADER_SIZE ? (int) existingSize : size);
+        }
+
+        boolean fits(int frameSize) {
+            return writePosition + frameSize <= buffer.capacity();
+        }
+
+        void append(Record record) {
+            final ByteBuffer frame = buffer.duplicate();
+            frame.position(writePosition + FRAME_HEADER_SIZE);
+            record.writeTo(frame);
+            final int length = frame.position() - writePosition - FRAME_HEADER_SIZE;
+            buffer.putInt(writePosition + Integer.BYTES, checksum(writePosition, length));
+            buffer.putInt(writePosition, length);
+            writePosition += FRAME_HEADER_SIZE + length;
+        }
+
+        private int checksum(int position, int length) {
+            final ByteBuffer contents = buffer.duplicate();
+            contents.position(position + FRAME_HEADER_SIZE).limit(position + FRAME_HEADER_SIZE + length);
+            final CRC32C crc = new CRC32C();
+            crc.update(contents);
+            return (int) crc.getValue();
+        }
+
+        void peek(int max, List<Record> peeked) {
+            int position = readPosition;
+            for (int i = 0; i < max && position < writePosition; i++) {
+                final int length = buffer.getInt(position);
+                final ByteBuffer frame = buffer.duplicate();
+                frame.position(position + FRAME_HEADER_SIZE).limit(position + FRAME_HEADER_SIZE + length);
+                peeked.add(Record.readFrom(frame));
+                position += FRAME_HEADER_SIZE + length;
+            }
+        }
+
+        int remove(int max) {
+            int removed = 0;
+            while (removed < max && readPosition < writePosition) {
+                readPosition += FRAME_HEADER_SIZE + buffer.getInt(readPosition);
+                removed++;
+            }
+            buffer.putLong(0, readPosition);
+            return removed;
+        }
+
+        long countRecords() {
+            long count = 0;
+            for (int position = readPosition; position < writePosition;
+                 position += FRAME_HEADER_SIZE + buffer.getInt(position)) {
+                count++;
+            }
+            return count;
+        }
+
+        boolean consumed() {
+            return readPosition >= writePosition;
+        }
+
+        void delete() throws IOException {
+            Files.deleteIfExists(path);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.netty.handler.timeout.ReadTimeoutException;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.error.ClientErrorReasons;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config.TransportType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.impl.PublisherMetrics.tagValue;
+
+/**
+ * Meters of a subscriber.
+ *
+ * <ul>
+ *     <li>{@value #RECORDS} - received records by topic and transport</li>
+ *     <li>{@value #BYTES} - bytes of the values of records received from Kafka, by topic</li>
+ *     <li>{@value #POLL} - duration of Kafka polls and DMaaP MR requests by topic and transport, with a percentile
+ *     histogram</li>
+ *     <li>{@value #LAG} - records of a partition not consumed yet by topic, partition and consumer group, as known
+ *     to the consumer after its last poll</li>
+ *     <li>{@value #FAILURES} - failed polls and requests by topic, transport and reason; the reason is the header of
+ *     the {@code ClientErrorReason}, the HTTP status or the simple class name of the error</li>
+ *     <li>{@value #TOPIC_METADATA_LOOKUPS} - checks whether a topic exists in Kafka by result, {@code hit} when
+ *     answered from the cache shared by the subscribers of the cluster and {@code miss} when the cluster was
+ *     queried, and by cluster, the bootstrap servers of the cache; counted since the cache was created</li>
+ * </ul>
+ */
+final class SubscriberMetrics {
+    static final String RECORDS = "dmaap.client.subscriber.records";
+    static final String BYTES = "dmaap.client.subscriber.bytes";
+    static final String POLL = "dmaap.client.subscriber.poll";
+    static final String LAG = "dmaap.client.subscriber.lag";
+    static final String FAILURES = "dmaap.client.subscriber.failures";
+    static final String TOPIC_METADATA_LOOKUPS = "dmaap.client.subscriber.topic.metadata.lookups";
+
+    static final String TOPIC_TAG = "topic";
+    static final String TRANSPORT_TAG = "transport";
+    static final String PARTITION_TAG = "partition";
+    static final String CONSUMER_GROUP_TAG = "consumer.group";
+    static final String REASON_TAG = "reason";
+    static final String RESULT_TAG = "result";
+    static final String CLUSTER_TAG = "cluster";
+
+    private final MeterRegistry registry;
+    private final Map<Tags, AtomicLong> lags = new ConcurrentHashMap<>();
+
+    SubscriberMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * @return metrics recording nothing, used when no registry was given
+     */
+    static SubscriberMetrics disabled() {
+        return new SubscriberMetrics(new CompositeMeterRegistry());
+    }
+
+    /**
+     * Polls the consumer, recording the poll and the received records, and updates the lag of the partitions
+     * assigned to it.
+     */
+    <V> ConsumerRecords<String, V> poll(Consumer<String, V> consumer, Duration timeout, String topic,
+                                         String consumerGroup) {
+        final Timer.Sample sample = Timer.start(registry);
+        final ConsumerRecords<String, V> records;
+        try {
+            records = consumer.poll(timeout);
+        } finally {
+            sample.stop(pollTimer(topic, TransportType.KAFKA));
+        }
+        if (!records.isEmpty()) {
+            long bytes = 0;
+            for (ConsumerRecord<String, V> rec : records) {
+                bytes += Math.max(rec.serializedValueSize(), 0);
+            }
+            records(topic, TransportType.KAFKA).increment(records.count());
+            Counter.builder(BYTES)
+                    .baseUnit("bytes")
+                    .tags(TOPIC_TAG, topic, TRANSPORT_TAG, tagValue(TransportType.KAFKA))
+                    .register(registry)
+                    .increment(bytes);
+        }
+        for (TopicPartition partition : consumer.assignment()) {
+            final OptionalLong lag = consumer.currentLag(partition);
+            if (lag.isPresent()) {
+                lag(partition, consumerGroup).set(lag.getAsLong());
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Times a single request to DMaaP MR.
+     */
+    <T> Mono<T> timed(String topic, Mono<T> request) {
+        return Mono.defer(() -> {
+            final Timer.Sample sample = Timer.start(registry);
+            return request.doFinally(signal -> sample.stop(pollTimer(topic, TransportType.HTTP)));
+        });
+    }
+
+    /**
+     * Times a single request to DMaaP MR, whose response is emitted while it is received.
+     */
+    <T> Flux<T> timed(String topic, Flux<T> request) {
+        return Flux.defer(() -> {
+            final Timer.Sample sample = Timer.start(registry);
+            return request.doFinally(signal -> sample.stop(pollTimer(topic, TransportType.HTTP)));
+        });
+    }
+
+    /**
+     * @return counter of the records received from the topic, to be resolved once per request or subscription
+     */
+    Counter records(String topic, TransportType transport) {
+        return Counter.builder(RECORDS)
+                .tags(TOPIC_TAG, topic, TRANSPORT_TAG, tagValue(transport))
+                .register(registry);
+    }
+
+    void failed(String topic, TransportType transport, String reason) {
+        Counter.builder(FAILURES)
+                .tags(TOPIC_TAG, topic, TRANSPORT_TAG, tagValue(transport), REASON_TAG, reason)
+                .register(registry)
+                .increment();
+    }
+
+    void failed(String topic, TransportType transport, Throwable error) {
+        failed(topic, transport, reason(error));
+    }
+
+    private static String reason(Throwable error) {
+        if (error instanceof ReadTimeoutException) {
+            return ClientErrorReasons.TIMEOUT.header();
+        }
+        if (error instanceof ConnectException) {
+            return ClientErrorReasons.SERVICE_UNAVAILABLE.header();
+        }
+        return error.getClass().getSimpleName();
+    }
+
+    private Timer pollTimer(String topic, TransportType transport) {
+        return Timer.builder(POLL)
+                .tags(TOPIC_TAG, topic, TRANSPORT_TAG, tagValue(transport))
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private AtomicLong lag(TopicPartition partition, String consumerGroup) {
+        final Tags tags = Tags.of(TOPIC_TAG, partition.topic(),
+                PARTITION_TAG, Integer.toString(partition.partition()),
+                CONSUMER_GROUP_TAG, consumerGroup);
+        return lags.computeIfAbsent(tags, key -> {
+            final AtomicLong lag = new AtomicLong();
+            Gauge.builder(LAG, lag, AtomicLong::get)
+                    .baseUnit("records")
+                    .tags(key)
+                    .register(registry);
+            return lag;
+        });
+    }
+}
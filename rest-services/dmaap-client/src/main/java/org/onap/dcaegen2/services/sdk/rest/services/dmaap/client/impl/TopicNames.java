@@ -0,0 +1,58 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.impl;
+
+import org.onap.dcaegen2.services.sdk.model.streams.dmaap.MessageRouter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Topic names of Message Router sinks and sources.
+ *
+ * <p>Names are cached by topic URL, so they are extracted with {@link Commons#getTopicFromTopicUrl(String)} only the
+ * first time a topic is used. The cache is cleared when it grows beyond {@value #MAX_CACHED_TOPICS} topics.</p>
+ */
+final class TopicNames {
+
+    private static final int MAX_CACHED_TOPICS = 1024;
+    private static final Map<String, String> BY_TOPIC_URL = new ConcurrentHashMap<>();
+
+    private TopicNames() {
+    }
+
+    static String of(MessageRouter stream) {
+        final String topicUrl = stream.topicUrl();
+        final String cached = BY_TOPIC_URL.get(topicUrl);
+        if (cached != null) {
+            return cached;
+        }
+        final String topic = Commons.getTopicFromTopicUrl(topicUrl);
+        if (topic != null) {
+            if (BY_TOPIC_URL.size() >= MAX_CACHED_TOPICS) {
+                BY_TOPIC_URL.clear();
+            }
+            BY_TOPIC_URL.put(topicUrl, topic);
+        }
+        return topic;
+    }
+}
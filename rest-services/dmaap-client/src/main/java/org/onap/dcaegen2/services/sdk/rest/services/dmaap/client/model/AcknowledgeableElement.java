@@ -0,0 +1,56 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model;
+
+import com.google.gson.JsonElement;
+import org.immutables.value.Value;
+
+/**
+ * Element consumed from a Kafka topic together with its position in the topic.
+ *
+ * <p>The offset of the element is committed only after it and all elements consumed before it from the same
+ * partition have been acknowledged.</p>
+ *
+ * @since 1.9.5
+ */
+@Value.Immutable
+public interface AcknowledgeableElement {
+
+    JsonElement element();
+
+    String topic();
+
+    int partition();
+
+    long offset();
+
+    @Value.Auxiliary
+    Runnable acknowledgement();
+
+    /**
+     * Marks the element as processed, so its offset may be committed. Acknowledging an element more than once or
+     * after its partition has been reassigned has no effect.
+     */
+    default void acknowledge() {
+        acknowledgement().run();
+    }
+}
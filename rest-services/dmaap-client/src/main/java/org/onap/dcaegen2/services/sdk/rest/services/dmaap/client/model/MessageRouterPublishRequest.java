@@ -20,7 +20,10 @@
 
 package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model;
 
+import com.google.gson.JsonElement;
+import java.util.function.Function;
 import org.immutables.value.Value;
+import org.jetbrains.annotations.Nullable;
 import org.onap.dcaegen2.services.sdk.model.streams.dmaap.MessageRouterSink;
 import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.ContentType;
 
@@ -37,4 +40,14 @@ public interface MessageRouterPublishRequest extends DmaapRequest {
     default ContentType contentType() {
         return ContentType.APPLICATION_JSON;
     }
+
+    /**
+     * Extracts the Kafka record key of a published item, see {@code KeyExtractors}. Items with the same key are
+     * sent to the same partition, so their order is kept. Items for which it returns {@code null}, or all items when
+     * it is not given, are published without a key.
+     *
+     * @since 1.9.5
+     */
+    @Value.Auxiliary
+    @Nullable Function<JsonElement, String> keyExtractor();
 }
@@ -36,4 +36,41 @@ public interface MessageRouterPublishResponse extends DmaapResponse {
     default List<JsonElement> items() {
         return List.empty();
     }
+
+    /**
+     * @return number of items published in the batch
+     * @since 1.9.5
+     */
+    @Value.Default
+    default int itemsCount() {
+        return items().size();
+    }
+
+    /**
+     * @return number of items of the batch which were stored in the local spill queue, to be published later; they
+     *     are included in {@link #items()} and {@link #itemsCount()}
+     * @since 1.9.5
+     */
+    @Value.Default
+    default int spilledItemsCount() {
+        return 0;
+    }
+
+    /**
+     * @return items of the batch which could not be published, when it was published with JSON items
+     * @since 1.9.5
+     */
+    @Value.Default
+    default List<JsonElement> failedItems() {
+        return List.empty();
+    }
+
+    /**
+     * @return number of items of the batch which could not be published
+     * @since 1.9.5
+     */
+    @Value.Default
+    default int failedItemsCount() {
+        return failedItems().size();
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import org.immutables.value.Value;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Message consumed without decoding its payload.
+ *
+ * <p>The payload is decoded to a String or parsed to a JSON tree only on the first call of {@link #asString()}
+ * or {@link #asJsonElement()}, so messages which are only forwarded are never decoded.</p>
+ *
+ * @since 1.9.5
+ */
+@Value.Immutable
+public interface RawMessage {
+
+    static RawMessage of(byte[] payload) {
+        return ImmutableRawMessage.of(ByteBuffer.wrap(payload).asReadOnlyBuffer());
+    }
+
+    /**
+     * @return read-only view of the payload
+     */
+    @Value.Parameter
+    ByteBuffer payload();
+
+    @Value.Lazy
+    default String asString() {
+        return StandardCharsets.UTF_8.decode(payload().duplicate()).toString();
+    }
+
+    @Value.Lazy
+    default JsonElement asJsonElement() {
+        return JsonParser.parseString(asString());
+    }
+}
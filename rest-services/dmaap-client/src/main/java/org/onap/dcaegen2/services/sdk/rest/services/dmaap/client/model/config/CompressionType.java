@@ -0,0 +1,47 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config;
+
+/**
+ * Compression of published payloads.
+ *
+ * @since 1.9.5
+ */
+public enum CompressionType {
+    NONE("none"),
+    GZIP("gzip"),
+    LZ4("lz4"),
+    ZSTD("zstd");
+
+    private final String kafkaName;
+
+    CompressionType(String kafkaName) {
+        this.kafkaName = kafkaName;
+    }
+
+    /**
+     * @return value of the producer {@code compression.type}
+     */
+    public String kafkaName() {
+        return kafkaName;
+    }
+}
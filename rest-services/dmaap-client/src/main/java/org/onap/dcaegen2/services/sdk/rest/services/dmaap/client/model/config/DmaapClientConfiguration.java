@@ -40,4 +40,23 @@ public interface DmaapClientConfiguration {
     default @Nullable DmaapConnectionPoolConfig connectionPoolConfig (){
         return null;
     }
+
+    /**
+     * @since 1.9.5
+     */
+    @Value.Default
+    default TransportType transport() {
+        return TransportType.KAFKA;
+    }
+
+    /**
+     * Kafka cluster to connect to, e.g. {@link KafkaClientConfig#fromStream} of a stream read from the Config Binding
+     * Service. When not given, it is read from the environment.
+     *
+     * @since 1.9.5
+     */
+    @Value.Default
+    default @Nullable KafkaClientConfig kafkaClientConfig() {
+        return null;
+    }
 }
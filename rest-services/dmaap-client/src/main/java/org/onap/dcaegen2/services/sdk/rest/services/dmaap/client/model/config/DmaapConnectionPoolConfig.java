@@ -20,6 +20,7 @@
 package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config;
 
 import org.immutables.value.Value;
+import org.jetbrains.annotations.Nullable;
 import reactor.netty.resources.ConnectionProvider;
 
 @Value.Immutable
@@ -37,4 +38,18 @@ public interface DmaapConnectionPoolConfig {
     default int maxIdleTime(){
         return  Integer.MAX_VALUE;
     }
+
+    /**
+     * Maximum number of calls waiting for a connection, see {@code ConnectionPoolConfig#pendingAcquireMaxCount()}.
+     *
+     * @since 1.9.5
+     */
+    @Nullable Integer pendingAcquireMaxCount();
+
+    /**
+     * Maximum time in seconds a call waits for a connection.
+     *
+     * @since 1.9.5
+     */
+    @Nullable Integer pendingAcquireTimeout();
 }
\ No newline at end of file
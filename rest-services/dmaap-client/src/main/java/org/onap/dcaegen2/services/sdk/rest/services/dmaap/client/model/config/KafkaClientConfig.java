@@ -0,0 +1,86 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config;
+
+import java.util.Map;
+import org.immutables.value.Value;
+import org.jetbrains.annotations.Nullable;
+import org.onap.dcaegen2.services.sdk.model.streams.AafCredentials;
+import org.onap.dcaegen2.services.sdk.model.streams.dmaap.Kafka;
+import org.onap.dcaegen2.services.sdk.model.streams.dmaap.KafkaSink;
+import org.onap.dcaegen2.services.sdk.model.streams.dmaap.KafkaSource;
+
+/**
+ * Kafka cluster used by the DMaaP clients and the client properties used to connect to it.
+ *
+ * <p>When it is not given in the client configuration, it is read once from the {@code BOOTSTRAP_SERVERS} and
+ * {@code JAAS_CONFIG} environment variables, with further properties given as {@code kafka.*} variables.</p>
+ *
+ * @since 1.9.5
+ */
+@Value.Immutable
+@Value.Style(redactedMask = "***")
+public interface KafkaClientConfig {
+
+    /**
+     * Kafka bootstrap servers, see the {@code bootstrap.servers} client property.
+     */
+    String bootstrapServers();
+
+    /**
+     * JAAS configuration of the SCRAM-SHA-512 authentication, or {@code null} when connecting unauthenticated.
+     */
+    @Value.Redacted
+    @Nullable String jaasConfig();
+
+    /**
+     * Further Kafka client properties. They take precedence over the ones set by the clients.
+     */
+    Map<String, String> properties();
+
+    /**
+     * Creates the configuration of a Kafka stream, e.g. one read from the Config Binding Service. The AAF credentials
+     * of the stream, if any, are used for the SCRAM authentication and its maximum payload size limits the size of
+     * the produced requests or of the fetched partitions.
+     */
+    static KafkaClientConfig fromStream(Kafka stream) {
+        final ImmutableKafkaClientConfig.Builder builder = ImmutableKafkaClientConfig.builder()
+                .bootstrapServers(stream.bootstrapServers());
+        final AafCredentials credentials = stream.aafCredentials();
+        if (credentials != null) {
+            builder.jaasConfig(String.format(
+                    "org.apache.kafka.common.security.scram.ScramLoginModule required username=\"%s\" password=\"%s\";",
+                    escape(credentials.username()), escape(credentials.password())));
+        }
+        final String maxPayloadSize = Integer.toString(stream.maxPayloadSizeBytes());
+        if (stream instanceof KafkaSink) {
+            builder.putProperties("max.request.size", maxPayloadSize);
+        } else if (stream instanceof KafkaSource) {
+            builder.putProperties("max.partition.fetch.bytes", maxPayloadSize);
+        }
+        return builder.build();
+    }
+
+    private static String escape(@Nullable String value) {
+        return value == null ? "" : value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
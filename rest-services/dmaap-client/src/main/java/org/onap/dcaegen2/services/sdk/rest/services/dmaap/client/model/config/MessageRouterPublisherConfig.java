@@ -20,8 +20,10 @@
 
 package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import org.immutables.value.Value;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * @author <a href="mailto:piotr.jaszczyk@nokia.com">Piotr Jaszczyk</a>
@@ -30,16 +32,198 @@ import org.immutables.value.Value;
 @Value.Immutable
 public interface MessageRouterPublisherConfig extends DmaapClientConfiguration {
 
+    /**
+     * Maximum time the publisher waits for a batch to fill up before sending it.
+     */
     @Value.Default
     default Duration maxBatchDuration() {
         return Duration.ofSeconds(1);
     }
 
+    /**
+     * Maximum number of items sent (and reported in a single {@code MessageRouterPublishResponse}) as one batch.
+     */
     @Value.Default
     default int maxBatchSize() {
         return 512;
     }
 
+    /**
+     * Maximum number of batches being sent at the same time. The next batch is sent without waiting for the
+     * acknowledgements of the previous ones, and responses are still emitted in the order of the batches. Batches
+     * sent over HTTP are sent one at a time, to keep their order.
+     *
+     * @since 1.9.5
+     */
+    @Value.Default
+    default int maxConcurrentBatches() {
+        return 4;
+    }
+
+    /**
+     * Time the Kafka producer waits for more records before sending a produce request, mapped onto the producer
+     * {@code linger.ms}. Kafka default when not given.
+     *
+     * @since 1.9.5
+     */
+    @Value.Default
+    default @Nullable Duration linger() {
+        return null;
+    }
+
+    /**
+     * Upper bound of a single Kafka producer batch in bytes, mapped onto the producer {@code batch.size}.
+     *
+     * @since 1.9.5
+     */
+    @Value.Default
+    default int maxBatchSizeInBytes() {
+        return 16384;
+    }
+
+    /**
+     * Compression of published payloads, mapped onto the producer {@code compression.type}.
+     *
+     * <p>When publishing over HTTP, only {@link CompressionType#GZIP} is applied (as {@code Content-Encoding}),
+     * other types are sent uncompressed.</p>
+     *
+     * @since 1.9.5
+     */
+    @Value.Default
+    default CompressionType compression() {
+        return CompressionType.NONE;
+    }
+
+    /**
+     * Maximum number of records handed to the publisher and not yet acknowledged by Kafka. When it is reached, the
+     * publisher stops requesting items from the published {@code Flux} until some records are acknowledged.
+     *
+     * @since 1.9.5
+     */
+    @Value.Default
+    default int maxInFlightRecords() {
+        return 10000;
+    }
+
+    /**
+     * Maximum total size of the payloads of records not yet acknowledged by Kafka, see {@link #maxInFlightRecords()}.
+     * It should stay below the producer {@code buffer.memory}, otherwise sending may still block.
+     *
+     * @since 1.9.5
+     */
+    @Value.Default
+    default long maxInFlightBytes() {
+        return 16L * 1024 * 1024;
+    }
+
+    /**
+     * Topic receiving the records which could not be published to their topic, even after the retries given by
+     * {@link #retryConfig()}. The original topic and the failure reason are attached as the
+     * {@code original-topic} and {@code failure-reason} record headers.
+     *
+     * @since 1.9.5
+     */
+    @Value.Default
+    default @Nullable String deadLetterTopic() {
+        return null;
+    }
+
+    /**
+     * File receiving the records which could be delivered neither to their topic nor to the
+     * {@link #deadLetterTopic()}.
+     *
+     * @since 1.9.5
+     */
+    @Value.Default
+    default @Nullable Path deadLetterFile() {
+        return null;
+    }
+
+    /**
+     * Directory of the local spill queue. When given, records which cannot be delivered because Kafka is unavailable
+     * are stored there instead of being reported as failed, and replayed in order once Kafka is reachable again.
+     * Until then, newly published records are spilled as well, behind the ones waiting.
+     *
+     * <p>The directory must not be shared by publishers.</p>
+     *
+     * @since 1.9.5
+     */
+    @Value.Default
+    default @Nullable Path spillDirectory() {
+        return null;
+    }
+
+    /**
+     * Size of a single memory-mapped file of the spill queue. A record larger than a segment cannot be spilled.
+     *
+     * @since 1.9.5
+     */
+    @Value.Default
+    default int spillSegmentSize() {
+        return 64 * 1024 * 1024;
+    }
+
+    /**
+     * Maximum disk space taken by the spill queue. Records which do not fit are reported as failed.
+     *
+     * @since 1.9.5
+     */
+    @Value.Default
+    default long maxSpillSize() {
+        return 1024L * 1024 * 1024;
+    }
+
+    /**
+     * Time between attempts to replay spilled records.
+     *
+     * @since 1.9.5
+     */
+    @Value.Default
+    default Duration spillReplayInterval() {
+        return Duration.ofSeconds(5);
+    }
+
+    @Value.Check
+    default void validate() {
+        if (maxBatchSize() < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid value: %d, maxBatchSize should be (1-n)", maxBatchSize()));
+        }
+        if (maxBatchDuration().isNegative() || maxBatchDuration().isZero()) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid value: %s, maxBatchDuration should be positive", maxBatchDuration()));
+        }
+        if (maxConcurrentBatches() < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid value: %d, maxConcurrentBatches should be (1-n)", maxConcurrentBatches()));
+        }
+        if (linger() != null && linger().isNegative()) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid value: %s, linger should not be negative", linger()));
+        }
+        if (maxInFlightRecords() < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid value: %d, maxInFlightRecords should be (1-n)", maxInFlightRecords()));
+        }
+        if (spillSegmentSize() < 1024) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid value: %d, spillSegmentSize should be (1024-n)", spillSegmentSize()));
+        }
+        if (maxSpillSize() < spillSegmentSize()) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid value: %d, maxSpillSize should not be less than spillSegmentSize",
+                            maxSpillSize()));
+        }
+        if (spillReplayInterval().isNegative() || spillReplayInterval().isZero()) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid value: %s, spillReplayInterval should be positive", spillReplayInterval()));
+        }
+        if (maxInFlightBytes() < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid value: %d, maxInFlightBytes should be (1-n)", maxInFlightBytes()));
+        }
+    }
+
     static MessageRouterPublisherConfig createDefault() {
         return ImmutableMessageRouterPublisherConfig.builder().build();
     }
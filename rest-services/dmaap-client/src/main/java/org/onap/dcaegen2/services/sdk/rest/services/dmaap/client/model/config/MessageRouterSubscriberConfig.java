@@ -21,6 +21,7 @@
 package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config;
 
 import com.google.gson.Gson;
+import java.time.Duration;
 import org.immutables.value.Value;
 
 /**
@@ -34,6 +35,100 @@ public interface MessageRouterSubscriberConfig extends DmaapClientConfiguration
         return new Gson();
     }
 
+    /**
+     * Maximum time a single Kafka {@code poll} waits for records.
+     *
+     * @since 1.9.5
+     */
+    @Value.Default
+    default Duration pollTimeout() {
+        return Duration.ofMillis(500);
+    }
+
+    /**
+     * Number of records a streaming subscription buffers for a slow downstream before it pauses consumption.
+     *
+     * @since 1.9.5
+     */
+    @Value.Default
+    default int streamingBufferSize() {
+        return 1000;
+    }
+
+    /**
+     * Time after which a consumer of a topic, consumer group and consumer id which has not been polled is closed.
+     *
+     * <p>The default matches the default {@code max.poll.interval.ms}, after which Kafka considers such a consumer
+     * to have left its group anyway.</p>
+     *
+     * @since 1.9.5
+     */
+    @Value.Default
+    default Duration consumerIdleTimeout() {
+        return Duration.ofMinutes(5);
+    }
+
+    /**
+     * Maximum time between asynchronous commits of acknowledged offsets.
+     *
+     * @since 1.9.5
+     */
+    @Value.Default
+    default Duration commitInterval() {
+        return Duration.ofSeconds(1);
+    }
+
+    /**
+     * Number of acknowledgements after which acknowledged offsets are committed before the commit interval passes.
+     *
+     * @since 1.9.5
+     */
+    @Value.Default
+    default int commitBatchSize() {
+        return 100;
+    }
+
+    /**
+     * Number of threads processing records of a subscription in parallel, see
+     * {@code MessageRouterSubscriber#subscribeForElementsInParallel}.
+     *
+     * @since 1.9.5
+     */
+    @Value.Default
+    default int processingParallelism() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Records processed one after another when records are processed in parallel.
+     *
+     * @since 1.9.5
+     */
+    @Value.Default
+    default ProcessingOrder processingOrder() {
+        return ProcessingOrder.PARTITION;
+    }
+
+    @Value.Check
+    default void validate() {
+        if (processingParallelism() < 1) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid value: %d, processingParallelism should be (1-n)", processingParallelism()));
+        }
+        if (streamingBufferSize() < 1) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid value: %d, streamingBufferSize should be (1-n)", streamingBufferSize()));
+        }
+        if (commitBatchSize() < 1) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid value: %d, commitBatchSize should be (1-n)", commitBatchSize()));
+        }
+        if (pollTimeout().isNegative() || pollTimeout().isZero()) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid value: %s, pollTimeout should be positive", pollTimeout()));
+        }
+    }
+
     static MessageRouterSubscriberConfig createDefault() {
         return ImmutableMessageRouterSubscriberConfig.builder().build();
     }
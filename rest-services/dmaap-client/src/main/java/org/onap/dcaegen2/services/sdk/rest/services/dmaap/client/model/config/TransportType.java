@@ -0,0 +1,51 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config;
+
+/**
+ * Way in which DMaaP clients reach the topics.
+ *
+ * @since 1.9.5
+ */
+public enum TransportType {
+    /**
+     * Kafka clients connected to {@code BOOTSTRAP_SERVERS}.
+     */
+    KAFKA,
+    /**
+     * REST API of the DMaaP Message Router, at the topic URLs of the requests.
+     */
+    HTTP,
+    /**
+     * Both of the above, for migrating from the Message Router to Kafka. Published items are sent to both, consumed
+     * items are merged from both.
+     */
+    BOTH;
+
+    public boolean usesKafka() {
+        return this != HTTP;
+    }
+
+    public boolean usesHttp() {
+        return this != KAFKA;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.api;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class KeyExtractorsTest {
+
+    private static final JsonElement EVENT = JsonParser.parseString(
+            "{\"event\":{\"commonEventHeader\":{\"sourceName\":\"nf-1\",\"a/b\":{\"x\":1}},\"list\":[\"first\"]}}");
+
+    @Test
+    void jsonPointer_shouldExtractPrimitiveValue() {
+        // given
+        Function<JsonElement, String> cut = KeyExtractors.jsonPointer("/event/commonEventHeader/sourceName");
+
+        // when
+        String key = cut.apply(EVENT);
+
+        // then
+        assertThat(key).isEqualTo("nf-1");
+    }
+
+    @Test
+    void jsonPointer_shouldSupportEscapedTokensAndArrayIndexes() {
+        assertThat(KeyExtractors.jsonPointer("/event/commonEventHeader/a~1b").apply(EVENT)).isEqualTo("{\"x\":1}");
+        assertThat(KeyExtractors.jsonPointer("/event/list/0").apply(EVENT)).isEqualTo("first");
+    }
+
+    @Test
+    void jsonPointer_givenMissingValue_shouldReturnNull() {
+        assertThat(KeyExtractors.jsonPointer("/event/missing/sourceName").apply(EVENT)).isNull();
+        assertThat(KeyExtractors.jsonPointer("/event/list/1").apply(EVENT)).isNull();
+    }
+
+    @Test
+    void jsonPointer_givenPointerWithoutLeadingSlash_shouldThrow() {
+        assertThatIllegalArgumentException().isThrownBy(() -> KeyExtractors.jsonPointer("event"));
+    }
+}
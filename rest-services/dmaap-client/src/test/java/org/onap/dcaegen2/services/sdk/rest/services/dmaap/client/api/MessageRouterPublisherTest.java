@@ -22,12 +22,17 @@
 package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.api;
 
 import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
 import io.vavr.collection.List;
 
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.MockProducer;
-import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.NetworkException;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.junit.Ignore;
 import org.junit.jupiter.api.AfterEach;
@@ -35,6 +40,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.onap.dcaegen2.services.sdk.model.streams.dmaap.ImmutableMessageRouterSink;
@@ -47,7 +53,9 @@ import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.Immutable
 import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.ImmutableMessageRouterPublishResponse;
 import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.MessageRouterPublishRequest;
 import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.MessageRouterPublishResponse;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config.ImmutableDmaapRetryConfig;
 import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config.ImmutableDmaapTimeoutConfig;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config.ImmutableMessageRouterPublisherConfig;
 import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config.MessageRouterPublisherConfig;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -56,8 +64,13 @@ import uk.org.webcompere.systemstubs.environment.EnvironmentVariables;
 import uk.org.webcompere.systemstubs.jupiter.SystemStub;
 import uk.org.webcompere.systemstubs.jupiter.SystemStubsExtension;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
-import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -92,8 +105,8 @@ class MessageRouterPublisherTest {
     private static final DummyHttpServer DISPOSED_HTTP_SERVER = initialize().closeAndGet();
     private static final DummyHttpServer SERVER = initialize();
     private MessageRouterPublisher sut;
-    MockProducer<String, String> mockProducer = 
-            new MockProducer<>(true, new StringSerializer(), new StringSerializer());
+    MockProducer<String, byte[]> mockProducer = 
+            new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
     private static DummyHttpServer initialize() {
         return DummyHttpServer.start(routes -> routes
                 .post(SUCCESS_RESP_TOPIC_PATH, (req, resp) -> sendString(resp, Mono.just("OK")))
@@ -118,7 +131,7 @@ class MessageRouterPublisherTest {
         
         sut = DmaapClientFactory
                 .createMessageRouterPublisher(MessageRouterPublisherConfig.createDefault());
-        sut.setKafkaProducer(mockProducer);
+        sut.setRawKafkaProducer(mockProducer);
     }
     @AfterEach
     void afterEach() {
@@ -147,7 +160,7 @@ class MessageRouterPublisherTest {
         final MessageRouterPublishRequest mrRequest = createTextPlainMRRequest(SUCCESS_RESP_TOPIC_PATH, SERVER);
         final List<JsonElement> expectedItems = messageBatchItems.map(JsonPrimitive::new);
         sut = new MessageRouterPublisherImpl();
-        sut.setKafkaProducer(mockProducer);
+        sut.setRawKafkaProducer(mockProducer);
         //when
         final Flux<MessageRouterPublishResponse> result = sut.put(mrRequest, messageBatch);
 
@@ -158,26 +171,452 @@ class MessageRouterPublisherTest {
                 .verify(TIMEOUT);
     }
     @Test
-    void publisher_shouldHandleError() {
-         
-         sut.setKafkaProducer(mockProducer);
-         
-         final MessageRouterPublishRequest mrRequest = createTextPlainMRRequest(SUCCESS_RESP_TOPIC_PATH, SERVER);
-         
-         //when
-         final Flux<MessageRouterPublishResponse> result = sut.put(mrRequest, messageBatch);
-         RuntimeException e = new RuntimeException();
-         mockProducer.errorNext(e);
-         Future<RecordMetadata> record =MessageRouterPublisherImpl.getFuture();
-         try{
-             record.get();
-         }catch(Exception ex) {
-            assertEquals(e, ex);
-         }
-         assertTrue(record.isDone());
-         
+    void test_put_givenMessagesAboveMaxBatchSize_shouldReturnResponsePerAcknowledgedBatch() throws Exception {
+        //given
+        final MessageRouterPublishRequest mrRequest = createTextPlainMRRequest(SUCCESS_RESP_TOPIC_PATH, SERVER);
+        sut = new MessageRouterPublisherImpl(null, 2, Duration.ofSeconds(1), null);
+        sut.setRawKafkaProducer(mockProducer);
+
+        //when
+        final Flux<MessageRouterPublishResponse> result = sut.put(mrRequest, messageBatch);
+
+        //then
+        StepVerifier.create(result)
+                .expectNext(ImmutableMessageRouterPublishResponse.builder()
+                        .items(List.of("ala", "ma").map(JsonPrimitive::new)).build())
+                .expectNext(ImmutableMessageRouterPublishResponse.builder()
+                        .items(List.of("kota").map(JsonPrimitive::new)).build())
+                .expectComplete()
+                .verify(TIMEOUT);
+        assertThat(mockProducer.history()).hasSize(messageBatchItems.size());
     }
-    
+
+    @Test
+    void test_put_givenEncodedPayloads_shouldPublishThemWithoutCopying() {
+        //given
+        final MessageRouterPublishRequest mrRequest = createTextPlainMRRequest(SUCCESS_RESP_TOPIC_PATH, SERVER);
+        final byte[] payload = "{\"ala\":\"ma kota\"}".getBytes(StandardCharsets.UTF_8);
+
+        //when
+        final Flux<MessageRouterPublishResponse> result =
+                sut.put(mrRequest, Flux.just(payload, payload), PayloadSerializers.bytes());
+
+        //then
+        StepVerifier.create(result)
+                .expectNext(ImmutableMessageRouterPublishResponse.builder().itemsCount(2).build())
+                .expectComplete()
+                .verify(TIMEOUT);
+        assertThat(mockProducer.history()).extracting(ProducerRecord::value).containsExactly(payload, payload);
+        assertThat(mockProducer.history().get(0).value()).isSameAs(payload);
+    }
+
+    @Test
+    void test_put_givenProducerOfStrings_shouldPublishPayloadsAsStrings() {
+        //given
+        final MockProducer<String, String> stringProducer =
+                new MockProducer<>(true, new StringSerializer(), new StringSerializer());
+        sut.setKafkaProducer(stringProducer);
+        final MessageRouterPublishRequest mrRequest = createTextPlainMRRequest(SUCCESS_RESP_TOPIC_PATH, SERVER);
+
+        //when
+        final Flux<MessageRouterPublishResponse> result = sut.put(mrRequest, messageBatch);
+
+        //then
+        StepVerifier.create(result)
+                .expectNextCount(1)
+                .expectComplete()
+                .verify(TIMEOUT);
+        assertThat(stringProducer.history()).extracting(ProducerRecord::value)
+                .containsExactly("\"ala\"", "\"ma\"", "\"kota\"");
+    }
+
+    @Test
+    void test_put_givenPublisherImplementingOnlyOriginalMethods_shouldNotSupportEncodedPayloads() {
+        //given
+        final MessageRouterPublisher minimal = new MessageRouterPublisher() {
+            @Override
+            public void close() {
+            }
+
+            @Override
+            public void setKafkaProducer(Producer<String, String> kafkaProducer) {
+            }
+
+            @Override
+            public Flux<MessageRouterPublishResponse> put(MessageRouterPublishRequest request,
+                                                          Flux<? extends JsonElement> items) {
+                return Flux.empty();
+            }
+        };
+        final MessageRouterPublishRequest mrRequest = createTextPlainMRRequest(SUCCESS_RESP_TOPIC_PATH, SERVER);
+
+        //when
+        final Flux<MessageRouterPublishResponse> result =
+                minimal.put(mrRequest, Flux.just(new byte[0]), PayloadSerializers.bytes());
+
+        //then
+        StepVerifier.create(result)
+                .expectError(UnsupportedOperationException.class)
+                .verify(TIMEOUT);
+        assertThat(minimal.bytesIn()).isZero();
+        assertThat(minimal.inFlightRecords()).isZero();
+    }
+
+    @Test
+    void test_put_shouldCountBytesOfPublishedPayloads() {
+        //given
+        final MessageRouterPublishRequest mrRequest = createTextPlainMRRequest(SUCCESS_RESP_TOPIC_PATH, SERVER);
+
+        //when
+        StepVerifier.create(sut.put(mrRequest, messageBatch))
+                .expectNextCount(1)
+                .expectComplete()
+                .verify(TIMEOUT);
+
+        //then
+        assertThat(sut.bytesIn()).isEqualTo("\"ala\"\"ma\"\"kota\"".length());
+    }
+
+    @Test
+    void test_put_givenKeyExtractor_shouldPublishKeyedRecords() {
+        //given
+        final MessageRouterPublishRequest mrRequest = ImmutableMessageRouterPublishRequest.builder()
+                .from(createTextPlainMRRequest(SUCCESS_RESP_TOPIC_PATH, SERVER))
+                .keyExtractor(KeyExtractors.jsonPointer("/sourceName"))
+                .build();
+        final JsonObject keyed = new JsonObject();
+        keyed.addProperty("sourceName", "nf-1");
+
+        //when
+        StepVerifier.create(sut.put(mrRequest, Flux.just(keyed, new JsonPrimitive("ala"))))
+                .expectNextCount(1)
+                .expectComplete()
+                .verify(TIMEOUT);
+
+        //then
+        assertThat(mockProducer.history()).extracting(ProducerRecord::key).containsExactly("nf-1", null);
+    }
+
+    @Test
+    void test_put_givenSerializerAndKeyExtractor_shouldPublishKeyedRecords() {
+        //given
+        final MessageRouterPublishRequest mrRequest = createTextPlainMRRequest(SUCCESS_RESP_TOPIC_PATH, SERVER);
+        final PayloadSerializer<String> serializer = item -> item.getBytes(StandardCharsets.UTF_8);
+
+        //when
+        StepVerifier.create(sut.put(mrRequest, Flux.just("nf-1:ala", "ma"), serializer,
+                item -> item.contains(":") ? item.substring(0, item.indexOf(':')) : null))
+                .expectNextCount(1)
+                .expectComplete()
+                .verify(TIMEOUT);
+
+        //then
+        assertThat(mockProducer.history()).extracting(ProducerRecord::key).containsExactly("nf-1", null);
+    }
+
+    @Test
+    void test_put_givenSerializerAndRequestWithKeyExtractor_shouldRejectIt() {
+        //given
+        final MessageRouterPublishRequest mrRequest = ImmutableMessageRouterPublishRequest.builder()
+                .from(createTextPlainMRRequest(SUCCESS_RESP_TOPIC_PATH, SERVER))
+                .keyExtractor(KeyExtractors.jsonPointer("/sourceName"))
+                .build();
+
+        //when
+        final Flux<MessageRouterPublishResponse> result =
+                sut.put(mrRequest, Flux.just(new byte[0]), PayloadSerializers.bytes());
+
+        //then
+        StepVerifier.create(result)
+                .expectError(IllegalArgumentException.class)
+                .verify(TIMEOUT);
+        assertThat(mockProducer.history()).isEmpty();
+    }
+
+    @Test
+    void test_put_givenFullInFlightWindow_shouldStopRequestingItemsUntilAcknowledged() throws Exception {
+        //given
+        final MockProducer<String, byte[]> slowProducer = useManualProducer(
+                ImmutableMessageRouterPublisherConfig.builder()
+                        .maxBatchSize(10)
+                        .maxInFlightRecords(10)
+                        .build());
+        final MessageRouterPublishRequest mrRequest = createTextPlainMRRequest(SUCCESS_RESP_TOPIC_PATH, SERVER);
+        final AtomicInteger emitted = new AtomicInteger();
+        final Flux<JsonPrimitive> items = Flux.range(0, 100)
+                .doOnNext(i -> emitted.incrementAndGet())
+                .map(JsonPrimitive::new);
+
+        //when
+        final Flux<MessageRouterPublishResponse> result = sut.put(mrRequest, items);
+
+        //then
+        StepVerifier.create(result)
+                .then(() -> {
+                    awaitSends(slowProducer, 10);
+                    assertThat(sut.inFlightRecords()).isEqualTo(10);
+                    assertThat(sut.inFlightBytes()).isEqualTo("0123456789".length());
+                    assertThat(emitted).hasValueLessThan(100);
+                })
+                .then(() -> completeSends(slowProducer, 100))
+                .expectNextCount(10)
+                .expectComplete()
+                .verify(TIMEOUT);
+        assertThat(slowProducer.history()).hasSize(100);
+        assertThat(sut.inFlightRecords()).isZero();
+        assertThat(sut.inFlightBytes()).isZero();
+    }
+
+    @Test
+    void test_put_givenSeveralBatches_shouldSendNextBatchesBeforePreviousAreAcknowledged() throws Exception {
+        //given
+        final MockProducer<String, byte[]> slowProducer = useManualProducer(
+                ImmutableMessageRouterPublisherConfig.builder()
+                        .maxBatchSize(1)
+                        .maxConcurrentBatches(3)
+                        .build());
+        final MessageRouterPublishRequest mrRequest = createTextPlainMRRequest(SUCCESS_RESP_TOPIC_PATH, SERVER);
+
+        //when
+        final Flux<MessageRouterPublishResponse> result = sut.put(mrRequest, messageBatch);
+
+        //then
+        StepVerifier.create(result)
+                .then(() -> {
+                    awaitSends(slowProducer, messageBatchItems.size());
+                    completeSends(slowProducer, messageBatchItems.size());
+                })
+                .expectNextCount(messageBatchItems.size())
+                .expectComplete()
+                .verify(TIMEOUT);
+        assertThat(slowProducer.history()).extracting(record -> new String(record.value(), StandardCharsets.UTF_8))
+                .containsExactly("\"ala\"", "\"ma\"", "\"kota\"");
+    }
+
+    @Test
+    void test_put_givenMessagesSlowerThanMaxBatchDuration_shouldReturnResponsePerTimeBoundBatch() throws Exception {
+        //given
+        final MessageRouterPublishRequest mrRequest = createTextPlainMRRequest(SUCCESS_RESP_TOPIC_PATH, SERVER);
+        final Flux<JsonPrimitive> delayedBatch = Flux.concat(
+                Flux.just("ala", "ma"),
+                Mono.delay(Duration.ofMillis(500)).thenReturn("kota"))
+                .map(JsonPrimitive::new);
+        sut = new MessageRouterPublisherImpl(null, 10, Duration.ofMillis(100), null);
+        sut.setRawKafkaProducer(mockProducer);
+
+        //when
+        final Flux<MessageRouterPublishResponse> result = sut.put(mrRequest, delayedBatch);
+
+        //then
+        StepVerifier.create(result)
+                .expectNext(ImmutableMessageRouterPublishResponse.builder()
+                        .items(List.of("ala", "ma").map(JsonPrimitive::new)).build())
+                .expectNext(ImmutableMessageRouterPublishResponse.builder()
+                        .items(List.of("kota").map(JsonPrimitive::new)).build())
+                .expectComplete()
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    void publisher_shouldHandleError() throws Exception {
+        //given
+        final MockProducer<String, byte[]> failingProducer =
+                useManualProducer(MessageRouterPublisherConfig.createDefault());
+        final MessageRouterPublishRequest mrRequest = createTextPlainMRRequest(SUCCESS_RESP_TOPIC_PATH, SERVER);
+        final RuntimeException e = new RuntimeException(ERROR_MESSAGE);
+
+        //when
+        final Flux<MessageRouterPublishResponse> result = sut.put(mrRequest, messageBatch);
+
+        //then
+        StepVerifier.create(result)
+                .then(() -> failFirstSend(failingProducer, messageBatchItems.size(), e))
+                .expectNext(ImmutableMessageRouterPublishResponse.builder()
+                        .failReason(ERROR_MESSAGE)
+                        .items(List.of("ma", "kota").map(JsonPrimitive::new))
+                        .failedItems(List.of(new JsonPrimitive("ala")))
+                        .build())
+                .expectComplete()
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    void publisher_givenRetriableError_shouldResendOnlyFailedRecords() throws Exception {
+        //given
+        final MockProducer<String, byte[]> failingProducer = useManualProducer(
+                ImmutableMessageRouterPublisherConfig.builder()
+                        .retryConfig(ImmutableDmaapRetryConfig.builder().retryCount(1).build())
+                        .build());
+        final MessageRouterPublishRequest mrRequest = createTextPlainMRRequest(SUCCESS_RESP_TOPIC_PATH, SERVER);
+
+        //when
+        final Flux<MessageRouterPublishResponse> result = sut.put(mrRequest, messageBatch);
+
+        //then
+        StepVerifier.create(result)
+                .then(() -> failFirstSend(failingProducer, messageBatchItems.size(), new NetworkException(ERROR_MESSAGE)))
+                .then(() -> completeSends(failingProducer, 1))
+                .expectNext(ImmutableMessageRouterPublishResponse.builder()
+                        .items(messageBatchItems.map(JsonPrimitive::new))
+                        .build())
+                .expectComplete()
+                .verify(TIMEOUT);
+        assertThat(failingProducer.history()).extracting(record -> new String(record.value(), StandardCharsets.UTF_8))
+                .containsExactly("\"ala\"", "\"ma\"", "\"kota\"", "\"ala\"");
+    }
+
+    @Test
+    void publisher_givenRetriableErrorOfKeyedRecord_shouldNotResendIt() throws Exception {
+        //given
+        final MockProducer<String, byte[]> failingProducer = useManualProducer(
+                ImmutableMessageRouterPublisherConfig.builder()
+                        .retryConfig(ImmutableDmaapRetryConfig.builder().retryCount(1).build())
+                        .build());
+        final MessageRouterPublishRequest mrRequest = ImmutableMessageRouterPublishRequest.builder()
+                .from(createTextPlainMRRequest(SUCCESS_RESP_TOPIC_PATH, SERVER))
+                .keyExtractor(item -> "nf-1")
+                .build();
+
+        //when
+        final Flux<MessageRouterPublishResponse> result = sut.put(mrRequest, messageBatch);
+
+        //then
+        StepVerifier.create(result)
+                .then(() -> failFirstSend(failingProducer, messageBatchItems.size(), new NetworkException(ERROR_MESSAGE)))
+                .consumeNextWith(response -> assertThat(response.failedItems()).containsExactly(new JsonPrimitive("ala")))
+                .expectComplete()
+                .verify(TIMEOUT);
+        assertThat(failingProducer.history()).hasSize(messageBatchItems.size());
+    }
+
+    @Test
+    void publisher_givenDeadLetterTopic_shouldSendFailedRecordsToIt() throws Exception {
+        //given
+        final MockProducer<String, byte[]> failingProducer = useManualProducer(
+                ImmutableMessageRouterPublisherConfig.builder()
+                        .deadLetterTopic("DEAD_LETTERS")
+                        .build());
+        final MessageRouterPublishRequest mrRequest = createTextPlainMRRequest(SUCCESS_RESP_TOPIC_PATH, SERVER);
+
+        //when
+        final Flux<MessageRouterPublishResponse> result = sut.put(mrRequest, messageBatch);
+
+        //then
+        StepVerifier.create(result)
+                .then(() -> failFirstSend(failingProducer, messageBatchItems.size(), new RuntimeException(ERROR_MESSAGE)))
+                .then(() -> completeSends(failingProducer, 1))
+                .consumeNextWith(response -> assertThat(response.failedItems()).containsExactly(new JsonPrimitive("ala")))
+                .expectComplete()
+                .verify(TIMEOUT);
+        final ProducerRecord<String, byte[]> deadLetter = failingProducer.history().get(messageBatchItems.size());
+        assertThat(deadLetter.topic()).isEqualTo("DEAD_LETTERS");
+        assertThat(deadLetter.value()).isEqualTo("\"ala\"".getBytes(StandardCharsets.UTF_8));
+        assertThat(deadLetter.headers().lastHeader("original-topic").value())
+                .isEqualTo("TOPIC".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void publisher_givenDeadLetterFile_shouldWriteFailedRecordsToIt(@TempDir Path directory) throws Exception {
+        //given
+        final Path deadLetterFile = directory.resolve("dead-letters");
+        final MockProducer<String, byte[]> failingProducer = useManualProducer(
+                ImmutableMessageRouterPublisherConfig.builder()
+                        .deadLetterFile(deadLetterFile)
+                        .build());
+        final MessageRouterPublishRequest mrRequest = createTextPlainMRRequest(SUCCESS_RESP_TOPIC_PATH, SERVER);
+
+        //when
+        final Flux<MessageRouterPublishResponse> result = sut.put(mrRequest, messageBatch);
+
+        //then
+        StepVerifier.create(result)
+                .then(() -> failFirstSend(failingProducer, messageBatchItems.size(), new RuntimeException(ERROR_MESSAGE)))
+                .expectNextCount(1)
+                .expectComplete()
+                .verify(TIMEOUT);
+        final ByteBuffer frame = ByteBuffer.wrap(Files.readAllBytes(deadLetterFile));
+        assertThat(readField(frame)).isEqualTo("TOPIC");
+        assertThat(frame.getInt()).isEqualTo(-1);
+        assertThat(readField(frame)).isEqualTo("\"ala\"");
+        assertThat(readField(frame)).isEqualTo(ERROR_MESSAGE);
+        assertThat(frame.hasRemaining()).isFalse();
+    }
+
+    @Test
+    void publisher_givenSpillDirectory_shouldSpillUndeliveredRecordsAndReplayThemInOrder(@TempDir Path directory)
+            throws Exception {
+        //given
+        final MockProducer<String, byte[]> failingProducer = useManualProducer(
+                ImmutableMessageRouterPublisherConfig.builder()
+                        .spillDirectory(directory)
+                        .spillReplayInterval(Duration.ofMillis(100))
+                        .build());
+        final MessageRouterPublishRequest mrRequest = createTextPlainMRRequest(SUCCESS_RESP_TOPIC_PATH, SERVER);
+
+        //when
+        final Flux<MessageRouterPublishResponse> result = sut.put(mrRequest, messageBatch);
+
+        //then
+        StepVerifier.create(result)
+                .then(() -> {
+                    awaitSends(failingProducer, messageBatchItems.size());
+                    for (int i = 0; i < messageBatchItems.size(); i++) {
+                        failingProducer.errorNext(new TimeoutException(ERROR_MESSAGE));
+                    }
+                })
+                .expectNext(ImmutableMessageRouterPublishResponse.builder()
+                        .items(messageBatchItems.map(JsonPrimitive::new))
+                        .spilledItemsCount(messageBatchItems.size())
+                        .build())
+                .expectComplete()
+                .verify(TIMEOUT);
+        awaitSends(failingProducer, 2 * messageBatchItems.size());
+        completeSends(failingProducer, messageBatchItems.size());
+        assertThat(failingProducer.history().subList(messageBatchItems.size(), 2 * messageBatchItems.size()))
+                .extracting(record -> new String(record.value(), StandardCharsets.UTF_8))
+                .containsExactly("\"ala\"", "\"ma\"", "\"kota\"");
+    }
+
+    @Test
+    void publisher_givenPendingSpilledRecords_shouldKeepSerializationFailuresOfNextBatch(@TempDir Path directory)
+            throws Exception {
+        //given
+        final MockProducer<String, byte[]> failingProducer = useManualProducer(
+                ImmutableMessageRouterPublisherConfig.builder()
+                        .spillDirectory(directory)
+                        .spillReplayInterval(Duration.ofMinutes(1))
+                        .build());
+        final MessageRouterPublishRequest mrRequest = createTextPlainMRRequest(SUCCESS_RESP_TOPIC_PATH, SERVER);
+        StepVerifier.create(sut.put(mrRequest, Flux.just(new JsonPrimitive("ala"))))
+                .then(() -> {
+                    awaitSends(failingProducer, 1);
+                    failingProducer.errorNext(new TimeoutException(ERROR_MESSAGE));
+                })
+                .consumeNextWith(response -> assertThat(response.spilledItemsCount()).isEqualTo(1))
+                .expectComplete()
+                .verify(TIMEOUT);
+        final PayloadSerializer<String> serializer = item -> {
+            if ("bad".equals(item)) {
+                throw new IllegalArgumentException("not serializable");
+            }
+            return item.getBytes(StandardCharsets.UTF_8);
+        };
+
+        //when
+        final Flux<MessageRouterPublishResponse> result = sut.put(mrRequest, Flux.just("bad", "ok"), serializer);
+
+        //then
+        StepVerifier.create(result)
+                .expectNext(ImmutableMessageRouterPublishResponse.builder()
+                        .itemsCount(1)
+                        .failedItemsCount(1)
+                        .spilledItemsCount(1)
+                        .failReason("not serializable")
+                        .build())
+                .expectComplete()
+                .verify(TIMEOUT);
+    }
+
     @Disabled
     @ParameterizedTest
     @CsvSource({
@@ -237,6 +676,45 @@ class MessageRouterPublisherTest {
                 .verify(TIMEOUT);
     }
 
+    private MockProducer<String, byte[]> useManualProducer(MessageRouterPublisherConfig config) throws Exception {
+        final MockProducer<String, byte[]> producer =
+                new MockProducer<>(false, new StringSerializer(), new ByteArraySerializer());
+        sut.close();
+        sut = new MessageRouterPublisherImpl(null, config, null);
+        sut.setRawKafkaProducer(producer);
+        return producer;
+    }
+
+    private static void await(BooleanSupplier condition) {
+        final long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+    private static void awaitSends(MockProducer<String, byte[]> producer, int expectedSends) {
+        await(() -> producer.history().size() >= expectedSends);
+    }
+
+    private static void completeSends(MockProducer<String, byte[]> producer, int expectedSends) {
+        for (int i = 0; i < expectedSends; i++) {
+            await(producer::completeNext);
+        }
+    }
+
+    private static String readField(ByteBuffer frame) {
+        final byte[] field = new byte[frame.getInt()];
+        frame.get(field);
+        return new String(field, StandardCharsets.UTF_8);
+    }
+
+    private static void failFirstSend(MockProducer<String, byte[]> producer, int expectedSends, RuntimeException e) {
+        awaitSends(producer, expectedSends);
+        producer.errorNext(e);
+        completeSends(producer, expectedSends - 1);
+    }
+
     private static MessageRouterPublishRequest createTextPlainMRRequest(String topicPath, DummyHttpServer dummyHttpServer) {
         final MessageRouterSink sinkDefinition = createMRSink(topicPath, dummyHttpServer);
         return ImmutableMessageRouterPublishRequest.builder()
@@ -54,6 +54,8 @@ import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config.Im
 import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config.MessageRouterSubscriberConfig;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 import uk.org.webcompere.systemstubs.environment.EnvironmentVariables;
 import uk.org.webcompere.systemstubs.jupiter.SystemStub;
@@ -63,6 +65,7 @@ import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Properties;
+import java.util.concurrent.ThreadFactory;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -142,6 +145,14 @@ class MessageRouterSubscriberTest {
     @BeforeAll
     static void set() {
         commonsMock = mockStatic(Commons.class);
+        // static mocks are visible only on this thread, so blocking Kafka calls must not switch threads
+        Schedulers.setFactory(new Schedulers.Factory() {
+            @Override
+            public Scheduler newBoundedElastic(int threadCap, int queuedTaskCap, ThreadFactory threadFactory,
+                                               int ttlSeconds) {
+                return Schedulers.immediate();
+            }
+        });
     }
     @AfterEach
     void afterEach() {
@@ -150,6 +161,7 @@ class MessageRouterSubscriberTest {
     @AfterAll
     static void after() {
         commonsMock.close();
+        Schedulers.resetFactory();
     }
     @BeforeEach
     void setup() {
@@ -0,0 +1,88 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.api;
+
+import com.google.gson.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PayloadSerializersTest {
+
+    private static final byte[] PAYLOAD = "{\"ala\":\"ma kota\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void gson_shouldWriteJsonText() {
+        // given
+        JsonObject item = new JsonObject();
+        item.addProperty("ala", "ma kota");
+
+        // when
+        byte[] serialized = PayloadSerializers.gson().serialize(item);
+
+        // then
+        assertThat(serialized).isEqualTo(PAYLOAD);
+    }
+
+    @Test
+    void byteBuffer_givenWholeHeapBuffer_shouldReturnBackingArray() {
+        // when
+        byte[] serialized = PayloadSerializers.byteBuffer().serialize(ByteBuffer.wrap(PAYLOAD));
+
+        // then
+        assertThat(serialized).isSameAs(PAYLOAD);
+    }
+
+    @Test
+    void byteBuffer_givenSlicedBuffer_shouldCopyRemainingBytesOnly() {
+        // given
+        ByteBuffer buffer = ByteBuffer.wrap(PAYLOAD, 1, 5);
+
+        // when
+        byte[] serialized = PayloadSerializers.byteBuffer().serialize(buffer);
+
+        // then
+        assertThat(new String(serialized, StandardCharsets.UTF_8)).isEqualTo("\"ala\"");
+        assertThat(buffer.position()).isEqualTo(1);
+    }
+
+    @Test
+    void jackson_shouldStreamItemsThroughReusedBuffer() {
+        // given
+        PayloadSerializer<String> cut = PayloadSerializers.jackson((item, generator) -> {
+            generator.writeStartObject();
+            generator.writeStringField("ala", item);
+            generator.writeEndObject();
+        });
+
+        // when
+        byte[] first = cut.serialize("ma kota");
+        byte[] second = cut.serialize("ma psa");
+
+        // then
+        assertThat(first).isEqualTo(PAYLOAD);
+        assertThat(new String(second, StandardCharsets.UTF_8)).isEqualTo("{\"ala\":\"ma psa\"}");
+    }
+}
@@ -77,8 +77,32 @@ class CommonsTest {
             .withFailMessage("Extracted topic name from topicUrl '%s' is not as expected topic '%s'",topicUrl, expected)
             .isEqualTo(expected);
     }
-    
-    
+
+    @Test
+    void shouldKeepTopicMetadataOfStaticChecksUntilAdminClientIsClosed() {
+        // given
+        Properties adminProps = new Properties();
+        adminProps.put("bootstrap.servers", "localhost:1");
+        adminProps.put("default.api.timeout.ms", "200");
+        adminProps.put("request.timeout.ms", "100");
+        Commons.closeKafkaAdminClient();
+        int pooledCaches = KafkaTopicMetadataCachePool.instance().size();
+
+        // when
+        boolean present = Commons.checkIfTopicIsPresentInKafka("TOPIC", adminProps);
+
+        // then
+        assertThat(present).isFalse();
+        assertThat(KafkaTopicMetadataCachePool.instance().size()).isEqualTo(pooledCaches + 1);
+
+        // when
+        Commons.closeKafkaAdminClient();
+
+        // then
+        assertThat(KafkaTopicMetadataCachePool.instance().size()).isEqualTo(pooledCaches);
+    }
+
+
     private AafCredentials create(String username, String password) {
         return ImmutableAafCredentials.builder()
                 .username(username)
@@ -0,0 +1,85 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.impl;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InFlightWindowTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Test
+    void acquire_shouldWaitUntilRecordFitsIntoWindow() {
+        // given
+        final InFlightWindow window = new InFlightWindow(10, 100);
+        window.acquire(60).block(TIMEOUT);
+
+        // when
+        final Mono<Void> waiting = window.acquire(60);
+
+        // then
+        StepVerifier.create(waiting)
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(50))
+                .then(() -> window.release(60))
+                .expectComplete()
+                .verify(TIMEOUT);
+        assertThat(window.records()).isEqualTo(1);
+        assertThat(window.bytes()).isEqualTo(60);
+    }
+
+    @Test
+    void acquire_givenRecordLargerThanWindow_shouldAdmitItIntoEmptyWindow() {
+        // given
+        final InFlightWindow window = new InFlightWindow(10, 100);
+
+        // when
+        window.acquire(500).block(TIMEOUT);
+
+        // then
+        assertThat(window.records()).isEqualTo(1);
+        assertThat(window.bytes()).isEqualTo(500);
+    }
+
+    @Test
+    void cancel_shouldGiveUpWaitingWithoutTakingCapacity() {
+        // given
+        final InFlightWindow window = new InFlightWindow(1, 100);
+        window.acquire(10).block(TIMEOUT);
+        final Disposable waiting = window.acquire(10).subscribe();
+
+        // when
+        waiting.dispose();
+        window.release(10);
+
+        // then
+        assertThat(window.records()).isZero();
+        assertThat(window.bytes()).isZero();
+    }
+}
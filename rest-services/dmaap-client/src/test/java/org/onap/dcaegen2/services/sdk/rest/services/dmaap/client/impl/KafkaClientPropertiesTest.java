@@ -0,0 +1,95 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.impl;
+
+import org.junit.jupiter.api.Test;
+import org.onap.dcaegen2.services.sdk.model.streams.ImmutableAafCredentials;
+import org.onap.dcaegen2.services.sdk.model.streams.dmaap.ImmutableKafkaSink;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config.KafkaClientConfig;
+
+import java.util.Map;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class KafkaClientPropertiesTest {
+
+    @Test
+    void configFromEnvironment_shouldReadBootstrapServersJaasConfigAndPrefixedProperties() {
+        // given
+        Map<String, String> envs = Map.of(
+                "BOOTSTRAP_SERVERS", "kafka:9092",
+                "JAAS_CONFIG", "jaas.config",
+                "kafka.max.poll.records", "10",
+                "HOSTNAME", "host");
+
+        // when
+        KafkaClientConfig config = KafkaClientProperties.configFromEnvironment(envs);
+
+        // then
+        assertThat(config.bootstrapServers()).isEqualTo("kafka:9092");
+        assertThat(config.jaasConfig()).isEqualTo("jaas.config");
+        assertThat(config.properties()).containsExactly(Map.entry("max.poll.records", "10"));
+    }
+
+    @Test
+    void configFromEnvironment_whenBootstrapServersAreMissing_shouldFail() {
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> KafkaClientProperties.configFromEnvironment(Map.of()))
+                .withMessage("Environment Variable BOOTSTRAP_SERVERS is missing");
+    }
+
+    @Test
+    void defaults_shouldSerializeStringValues() {
+        assertThat(KafkaClientProperties.defaults())
+                .containsEntry("value.serializer", "org.apache.kafka.common.serialization.StringSerializer");
+    }
+
+    @Test
+    void clientProperties_shouldApplyGivenPropertiesOverDefaultsAndSecurityOfStream() {
+        // given
+        KafkaClientConfig config = KafkaClientConfig.fromStream(ImmutableKafkaSink.builder()
+                .bootstrapServers("kafka:9092")
+                .topicName("TOPIC")
+                .aafCredentials(ImmutableAafCredentials.builder().username("user").password("pa\"ss").build())
+                .maxPayloadSizeBytes(2048)
+                .build());
+        KafkaClientProperties cut = KafkaClientProperties.of(config);
+
+        // when
+        Properties props = cut.clientProperties();
+        props.put("client.id", "modified copy");
+
+        // then
+        assertThat(props)
+                .containsEntry("bootstrap.servers", "kafka:9092")
+                .containsEntry("max.request.size", "2048")
+                .containsEntry("max.poll.records", 1000)
+                .containsEntry("security.protocol", "SASL_PLAINTEXT")
+                .containsEntry("sasl.jaas.config", "org.apache.kafka.common.security.scram.ScramLoginModule required "
+                        + "username=\"user\" password=\"pa\\\"ss\";");
+        assertThat(cut.clientProperties()).doesNotContainKey("client.id");
+        assertThat(cut.adminProperties()).containsOnlyKeys(
+                "bootstrap.servers", "security.protocol", "sasl.mechanism", "sasl.jaas.config");
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.impl;
+
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.junit.jupiter.api.Test;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.impl.KafkaConsumerRegistry.ConsumerKey;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KafkaConsumerRegistryTest {
+
+    private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(5);
+    private static final ConsumerKey TOPIC_A = new ConsumerKey("TOPIC_A", "group", "id");
+    private static final ConsumerKey TOPIC_B = new ConsumerKey("TOPIC_B", "group", "id");
+
+    private final MutableClock clock = new MutableClock();
+    private final List<MockConsumer<String, String>> createdConsumers = new ArrayList<>();
+    private final KafkaConsumerRegistry<String> cut = new KafkaConsumerRegistry<>(key -> {
+        MockConsumer<String, String> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        createdConsumers.add(consumer);
+        return consumer;
+    }, IDLE_TIMEOUT, clock);
+
+    @Test
+    void withConsumer_givenDifferentTopics_shouldUseSeparateSubscribedConsumers() {
+        // when
+        cut.withConsumer(TOPIC_A, consumer -> consumer);
+        cut.withConsumer(TOPIC_B, consumer -> consumer);
+        cut.withConsumer(TOPIC_A, consumer -> consumer);
+
+        // then
+        assertThat(cut.size()).isEqualTo(2);
+        assertThat(createdConsumers).hasSize(2);
+        assertThat(createdConsumers.get(0).subscription()).containsExactly("TOPIC_A");
+        assertThat(createdConsumers.get(1).subscription()).containsExactly("TOPIC_B");
+    }
+
+    @Test
+    void withConsumer_givenSameTopicInDifferentGroup_shouldUseSeparateConsumers() {
+        // when
+        cut.withConsumer(TOPIC_A, consumer -> consumer);
+        cut.withConsumer(new ConsumerKey("TOPIC_A", "other-group", "id"), consumer -> consumer);
+
+        // then
+        assertThat(cut.size()).isEqualTo(2);
+    }
+
+    @Test
+    void withConsumer_shouldCloseConsumersIdleForLongerThanIdleTimeout() {
+        // given
+        cut.withConsumer(TOPIC_A, consumer -> consumer);
+        clock.advance(IDLE_TIMEOUT.minusSeconds(1));
+        cut.withConsumer(TOPIC_B, consumer -> consumer);
+
+        // when
+        clock.advance(Duration.ofSeconds(2));
+        cut.withConsumer(TOPIC_B, consumer -> consumer);
+
+        // then
+        assertThat(cut.contains(TOPIC_A)).isFalse();
+        assertThat(cut.contains(TOPIC_B)).isTrue();
+        assertThat(createdConsumers.get(0).closed()).isTrue();
+        assertThat(createdConsumers.get(1).closed()).isFalse();
+    }
+
+    @Test
+    void close_shouldCloseAllConsumers() {
+        // given
+        cut.withConsumer(TOPIC_A, consumer -> consumer);
+        cut.withConsumer(TOPIC_B, consumer -> consumer);
+
+        // when
+        cut.close();
+
+        // then
+        assertThat(cut.size()).isZero();
+        assertThat(createdConsumers).allMatch(MockConsumer::closed);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.EPOCH;
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.impl;
+
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KafkaProducerPoolTest {
+
+    private final List<MockProducer<String, byte[]>> createdProducers = new ArrayList<>();
+    private final KafkaProducerPool cut = new KafkaProducerPool(props -> {
+        MockProducer<String, byte[]> producer =
+                new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+        createdProducers.add(producer);
+        return producer;
+    });
+
+    @Test
+    void acquire_givenSameProperties_shouldShareSingleProducer() {
+        // when
+        KafkaProducerPool.Lease first = cut.acquire(properties("localhost:9092"));
+        KafkaProducerPool.Lease second = cut.acquire(properties("localhost:9092"));
+
+        // then
+        assertThat(first.producer()).isSameAs(second.producer());
+        assertThat(createdProducers).hasSize(1);
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @Test
+    void acquire_givenDifferentProperties_shouldCreateSeparateProducers() {
+        // when
+        KafkaProducerPool.Lease first = cut.acquire(properties("localhost:9092"));
+        KafkaProducerPool.Lease second = cut.acquire(properties("remotehost:9092"));
+
+        // then
+        assertThat(first.producer()).isNotSameAs(second.producer());
+        assertThat(cut.size()).isEqualTo(2);
+    }
+
+    @Test
+    void release_shouldCloseProducerOnlyAfterLastLeaseIsReleased() {
+        // given
+        KafkaProducerPool.Lease first = cut.acquire(properties("localhost:9092"));
+        KafkaProducerPool.Lease second = cut.acquire(properties("localhost:9092"));
+
+        // when
+        first.close();
+        first.close();
+
+        // then
+        assertThat(createdProducers.get(0).closed()).isFalse();
+
+        // when
+        second.close();
+
+        // then
+        assertThat(createdProducers.get(0).closed()).isTrue();
+        assertThat(cut.size()).isZero();
+    }
+
+    private static Properties properties(String bootstrapServers) {
+        Properties props = new Properties();
+        props.put("bootstrap.servers", bootstrapServers);
+        return props;
+    }
+}
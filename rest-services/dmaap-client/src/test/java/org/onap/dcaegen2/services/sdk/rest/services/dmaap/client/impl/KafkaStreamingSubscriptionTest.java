@@ -0,0 +1,277 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.Disposable;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config.ProcessingOrder;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KafkaStreamingSubscriptionTest {
+
+    private static final String TOPIC = "TOPIC";
+    private static final String GROUP = "GROUP";
+    private static final TopicPartition PARTITION = new TopicPartition(TOPIC, 0);
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(10);
+
+    private volatile Long lastCommittedOffset;
+    private final MockConsumer<String, String> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST) {
+        @Override
+        public synchronized void commitSync(Map<TopicPartition, OffsetAndMetadata> offsets) {
+            super.commitSync(offsets);
+            if (offsets.containsKey(PARTITION)) {
+                lastCommittedOffset = offsets.get(PARTITION).offset();
+            }
+        }
+    };
+
+    @Test
+    void records_shouldEmitConsumedRecordsOnDemand() {
+        // given
+        givenRecords("first", "second", "third");
+        KafkaStreamingSubscription<String> cut = new KafkaStreamingSubscription<>(() -> consumer, TOPIC, GROUP, 10,
+                POLL_TIMEOUT, SubscriberMetrics.disabled());
+
+        // when
+        StepVerifier.create(cut.records().map(ConsumerRecord::value), 2)
+                .expectNext("first", "second")
+                .thenRequest(1)
+                .expectNext("third")
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+
+        // then
+        await(consumer::closed);
+    }
+
+    @Test
+    void records_shouldRecordReceivedRecordsAndLagPerPartition() {
+        // given
+        consumer.updateBeginningOffsets(Collections.singletonMap(PARTITION, 0L));
+        consumer.updateEndOffsets(Collections.singletonMap(PARTITION, 5L));
+        consumer.schedulePollTask(() -> {
+            consumer.rebalance(Collections.singletonList(PARTITION));
+            consumer.addRecord(new ConsumerRecord<>(TOPIC, 0, 0, 0L, TimestampType.CREATE_TIME, 0, 5, null, "first",
+                    new RecordHeaders(), Optional.empty()));
+            consumer.addRecord(new ConsumerRecord<>(TOPIC, 0, 1, 0L, TimestampType.CREATE_TIME, 0, 6, null, "second",
+                    new RecordHeaders(), Optional.empty()));
+        });
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        KafkaStreamingSubscription<String> cut = new KafkaStreamingSubscription<>(() -> consumer, TOPIC, GROUP, 10,
+                POLL_TIMEOUT, new SubscriberMetrics(registry));
+
+        // when
+        StepVerifier.create(cut.records())
+                .expectNextCount(2)
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+
+        // then
+        await(consumer::closed);
+        assertThat(registry.get(SubscriberMetrics.RECORDS).tag(SubscriberMetrics.TOPIC_TAG, TOPIC).counter().count())
+                .isEqualTo(2);
+        assertThat(registry.get(SubscriberMetrics.BYTES).counter().count()).isEqualTo("firstsecond".length());
+        assertThat(registry.get(SubscriberMetrics.POLL).timer().count()).isPositive();
+        assertThat(registry.get(SubscriberMetrics.LAG)
+                .tags(SubscriberMetrics.PARTITION_TAG, "0", SubscriberMetrics.CONSUMER_GROUP_TAG, GROUP)
+                .gauge().value()).isEqualTo(3);
+    }
+
+    @Test
+    void records_givenSlowDownstream_shouldPausePartitionsUntilBufferIsDrained() {
+        // given
+        givenRecords("1", "2", "3", "4", "5");
+        KafkaStreamingSubscription<String> cut = new KafkaStreamingSubscription<>(() -> consumer, TOPIC, GROUP, 4,
+                POLL_TIMEOUT, SubscriberMetrics.disabled());
+        ManualSubscriber subscriber = new ManualSubscriber();
+
+        // when
+        cut.records().subscribe(subscriber);
+
+        // then
+        await(() -> !consumer.paused().isEmpty());
+
+        // when
+        subscriber.request(5);
+
+        // then
+        await(() -> subscriber.received == 5 && consumer.paused().isEmpty());
+        subscriber.dispose();
+        await(consumer::closed);
+    }
+
+    @Test
+    void acknowledgeableRecords_shouldCommitOffsetsOfContiguouslyAcknowledgedRecords() {
+        // given
+        givenRecords("first", "second", "third");
+        KafkaStreamingSubscription<String> cut = new KafkaStreamingSubscription<>(() -> consumer, TOPIC, GROUP, 10,
+                POLL_TIMEOUT, Duration.ofHours(1), 2, SubscriberMetrics.disabled());
+        List<KafkaStreamingSubscription.AcknowledgeableRecord<String>> received = new CopyOnWriteArrayList<>();
+        Disposable subscription = cut.acknowledgeableRecords().subscribe(received::add);
+        await(() -> received.size() == 3);
+
+        // when
+        received.get(0).acknowledge();
+        received.get(2).acknowledge();
+
+        // then
+        await(() -> committedOffset() == 1L);
+
+        // when
+        received.get(1).acknowledge();
+        subscription.dispose();
+
+        // then
+        await(consumer::closed);
+        assertThat(lastCommittedOffset).isEqualTo(3L);
+    }
+
+    @Test
+    void processInParallel_shouldKeepOrderOfRecordsOfPartitionWhileProcessingPartitionsInParallel() {
+        // given
+        TopicPartition otherPartition = new TopicPartition(TOPIC, 1);
+        consumer.updateBeginningOffsets(Map.of(PARTITION, 0L, otherPartition, 0L));
+        consumer.schedulePollTask(() -> {
+            consumer.rebalance(List.of(PARTITION, otherPartition));
+            for (int offset = 0; offset < 3; offset++) {
+                consumer.addRecord(new ConsumerRecord<>(TOPIC, 0, offset, null, "p0-" + offset));
+                consumer.addRecord(new ConsumerRecord<>(TOPIC, 1, offset, null, "p1-" + offset));
+            }
+        });
+        KafkaStreamingSubscription<String> cut = new KafkaStreamingSubscription<>(() -> consumer, TOPIC, GROUP, 10,
+                POLL_TIMEOUT, Duration.ofHours(1), 100, SubscriberMetrics.disabled());
+        Map<Integer, Set<String>> threadsByPartition = new ConcurrentHashMap<>();
+
+        // when
+        List<String> processed = cut.processInParallel(
+                rec -> Mono.fromCallable(() -> {
+                    threadsByPartition.computeIfAbsent(rec.partition(), p -> ConcurrentHashMap.newKeySet())
+                            .add(Thread.currentThread().getName());
+                    return rec.value();
+                }),
+                2, ProcessingOrder.PARTITION)
+                .take(6)
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(processed).filteredOn(value -> value.startsWith("p0")).containsExactly("p0-0", "p0-1", "p0-2");
+        assertThat(processed).filteredOn(value -> value.startsWith("p1")).containsExactly("p1-0", "p1-1", "p1-2");
+        assertThat(threadsByPartition.get(0)).hasSize(1).doesNotContainAnyElementsOf(threadsByPartition.get(1));
+    }
+
+    @Test
+    void processInParallel_givenKeyOrder_shouldCommitOnlyOffsetsOfContiguouslyProcessedRecords() {
+        // given
+        consumer.updateBeginningOffsets(Collections.singletonMap(PARTITION, 0L));
+        consumer.schedulePollTask(() -> {
+            consumer.rebalance(Collections.singletonList(PARTITION));
+            consumer.addRecord(new ConsumerRecord<>(TOPIC, 0, 0, "k0", "first"));
+            consumer.addRecord(new ConsumerRecord<>(TOPIC, 0, 1, "k1", "second"));
+            consumer.addRecord(new ConsumerRecord<>(TOPIC, 0, 2, "k3", "third"));
+        });
+        KafkaStreamingSubscription<String> cut = new KafkaStreamingSubscription<>(() -> consumer, TOPIC, GROUP, 10,
+                POLL_TIMEOUT, Duration.ZERO, 1, SubscriberMetrics.disabled());
+        Sinks.Empty<Void> firstReleased = Sinks.empty();
+        List<String> processed = new CopyOnWriteArrayList<>();
+        Disposable subscription = cut.processInParallel(
+                rec -> "first".equals(rec.value())
+                        ? firstReleased.asMono().thenReturn(rec.value())
+                        : Mono.just(rec.value()),
+                2, ProcessingOrder.KEY)
+                .subscribe(processed::add);
+
+        // when
+        await(() -> processed.containsAll(List.of("second", "third")));
+
+        // then
+        assertThat(committedOffset()).isLessThanOrEqualTo(0L);
+
+        // when
+        firstReleased.tryEmitEmpty();
+
+        // then
+        await(() -> committedOffset() == 3L);
+        subscription.dispose();
+    }
+
+    private long committedOffset() {
+        OffsetAndMetadata committed = consumer.committed(Collections.singleton(PARTITION)).get(PARTITION);
+        return committed == null ? -1 : committed.offset();
+    }
+
+    private void givenRecords(String... values) {
+        consumer.updateBeginningOffsets(Collections.singletonMap(PARTITION, 0L));
+        consumer.schedulePollTask(() -> {
+            consumer.rebalance(Collections.singletonList(PARTITION));
+            for (int offset = 0; offset < values.length; offset++) {
+                consumer.addRecord(new ConsumerRecord<>(TOPIC, 0, offset, null, values[offset]));
+            }
+        });
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.yield();
+        }
+    }
+
+    private static final class ManualSubscriber extends BaseSubscriber<ConsumerRecord<String, String>> {
+        private volatile int received;
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            // demand is signalled explicitly by the test
+        }
+
+        @Override
+        protected void hookOnNext(ConsumerRecord<String, String> value) {
+            received++;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.admin.Admin;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class KafkaTopicMetadataCachePoolTest {
+
+    private final List<Admin> createdAdmins = new ArrayList<>();
+    private final KafkaTopicMetadataCachePool cut = new KafkaTopicMetadataCachePool((props, registry) -> {
+        Admin admin = mock(Admin.class);
+        createdAdmins.add(admin);
+        return new KafkaTopicMetadataCache(admin, Duration.ofMinutes(2), Clock.systemUTC(), registry);
+    });
+
+    @Test
+    void acquire_givenSameProperties_shouldShareSingleCache() {
+        // when
+        KafkaTopicMetadataCachePool.Lease first = cut.acquire(properties("localhost:9092"));
+        KafkaTopicMetadataCachePool.Lease second = cut.acquire(properties("localhost:9092"));
+
+        // then
+        assertThat(first.cache()).isSameAs(second.cache());
+        assertThat(createdAdmins).hasSize(1);
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @Test
+    void acquire_givenDifferentProperties_shouldCreateSeparateCaches() {
+        // when
+        KafkaTopicMetadataCachePool.Lease first = cut.acquire(properties("cluster-a:9092"));
+        KafkaTopicMetadataCachePool.Lease second = cut.acquire(properties("cluster-b:9092"));
+
+        // then
+        assertThat(first.cache()).isNotSameAs(second.cache());
+        assertThat(createdAdmins).hasSize(2);
+        assertThat(cut.size()).isEqualTo(2);
+    }
+
+    @Test
+    void acquire_shouldNotCreateAdminClientBeforeFirstLookup() {
+        // when
+        KafkaTopicMetadataCachePool.Lease lease = cut.acquire(properties("localhost:9092"));
+        lease.close();
+
+        // then
+        assertThat(createdAdmins).isEmpty();
+        assertThat(cut.size()).isZero();
+    }
+
+    @Test
+    void release_shouldCloseAdminClientOnlyAfterLastLeaseIsReleased() {
+        // given
+        KafkaTopicMetadataCachePool.Lease first = cut.acquire(properties("localhost:9092"));
+        KafkaTopicMetadataCachePool.Lease second = cut.acquire(properties("localhost:9092"));
+        first.cache();
+
+        // when
+        first.close();
+        first.close();
+
+        // then
+        verify(createdAdmins.get(0), never()).close();
+
+        // when
+        second.close();
+
+        // then
+        verify(createdAdmins.get(0)).close();
+        assertThat(cut.size()).isZero();
+    }
+
+    @Test
+    void acquire_shouldRegisterMetersOfSharedCacheInRegistryOfEachLease() {
+        // given
+        SimpleMeterRegistry firstRegistry = new SimpleMeterRegistry();
+        SimpleMeterRegistry secondRegistry = new SimpleMeterRegistry();
+        KafkaTopicMetadataCachePool.Lease first = cut.acquire(properties("localhost:9092"), firstRegistry);
+        KafkaTopicMetadataCachePool.Lease second = cut.acquire(properties("localhost:9092"), secondRegistry);
+
+        // when
+        first.cache();
+        second.close();
+
+        // then
+        assertThat(firstRegistry.find(SubscriberMetrics.TOPIC_METADATA_LOOKUPS).functionCounters()).hasSize(2);
+        assertThat(secondRegistry.find(SubscriberMetrics.TOPIC_METADATA_LOOKUPS).functionCounters()).isEmpty();
+    }
+
+    private static Properties properties(String bootstrapServers) {
+        Properties props = new Properties();
+        props.put("bootstrap.servers", bootstrapServers);
+        return props;
+    }
+}
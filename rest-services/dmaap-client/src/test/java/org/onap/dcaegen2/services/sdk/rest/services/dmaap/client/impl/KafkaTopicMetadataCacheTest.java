@@ -0,0 +1,208 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KafkaTopicMetadataCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(2);
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final Admin admin = mock(Admin.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void topicExists_givenExistingTopic_shouldDescribeItOnceWithinTtl() {
+        // given
+        givenTopics("TOPIC");
+        KafkaTopicMetadataCache cut = new KafkaTopicMetadataCache(admin, TTL, Clock.fixed(NOW, ZoneOffset.UTC), registry);
+
+        // when
+        boolean first = cut.topicExists("TOPIC");
+        boolean second = cut.topicExists("TOPIC");
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(cut.misses()).isEqualTo(1);
+        assertThat(cut.hits()).isEqualTo(1);
+        verify(admin, times(1)).describeTopics(Collections.singleton("TOPIC"));
+    }
+
+    @Test
+    void topicExists_givenUnknownTopic_shouldReturnFalse() {
+        // given
+        givenTopics("TOPIC");
+        KafkaTopicMetadataCache cut = new KafkaTopicMetadataCache(admin, TTL, Clock.fixed(NOW, ZoneOffset.UTC), registry);
+
+        // when
+        boolean exists = cut.topicExists("OTHER_TOPIC");
+
+        // then
+        assertThat(exists).isFalse();
+    }
+
+    @Test
+    void topicExists_givenExpiredEntry_shouldDescribeTopicAgain() {
+        // given
+        givenTopics("TOPIC");
+        KafkaTopicMetadataCache cut = new KafkaTopicMetadataCache(admin, Duration.ZERO,
+                Clock.fixed(NOW, ZoneOffset.UTC), registry);
+
+        // when
+        cut.topicExists("TOPIC");
+        cut.topicExists("TOPIC");
+
+        // then
+        assertThat(cut.hits()).isZero();
+        assertThat(cut.misses()).isEqualTo(2);
+    }
+
+    @Test
+    void refresh_shouldDescribeAllCachedTopicsAtOnce() {
+        // given
+        givenTopics("TOPIC_A", "TOPIC_B");
+        KafkaTopicMetadataCache cut = new KafkaTopicMetadataCache(admin, TTL, Clock.fixed(NOW, ZoneOffset.UTC), registry);
+        cut.topicExists("TOPIC_A");
+        cut.topicExists("TOPIC_B");
+
+        // when
+        cut.refresh();
+
+        // then
+        verify(admin, times(3)).describeTopics(anyCollection());
+        assertThat(cut.topicExists("TOPIC_A")).isTrue();
+        assertThat(cut.hits()).isEqualTo(1);
+    }
+
+    @Test
+    void refresh_shouldEvictTopicsNotCheckedWithinTtl() {
+        // given
+        givenTopics("TOPIC_A", "TOPIC_B");
+        MutableClock clock = new MutableClock(NOW);
+        KafkaTopicMetadataCache cut = new KafkaTopicMetadataCache(admin, TTL, clock, registry);
+        cut.topicExists("TOPIC_A");
+        cut.topicExists("TOPIC_B");
+        clock.now = NOW.plus(TTL.dividedBy(2));
+        cut.topicExists("TOPIC_A");
+
+        // when
+        clock.now = NOW.plus(TTL);
+        cut.refresh();
+
+        // then
+        verify(admin, times(1)).describeTopics(Collections.singleton("TOPIC_B"));
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @Test
+    void topicExists_shouldRegisterHitsAndMissesInRegistry() {
+        // given
+        givenTopics("TOPIC");
+        KafkaTopicMetadataCache cut = new KafkaTopicMetadataCache(admin, TTL, Clock.fixed(NOW, ZoneOffset.UTC),
+                registry);
+
+        // when
+        cut.topicExists("TOPIC");
+        cut.topicExists("TOPIC");
+        cut.topicExists("TOPIC");
+
+        // then
+        assertThat(lookups("hit")).isEqualTo(2);
+        assertThat(lookups("miss")).isEqualTo(1);
+    }
+
+    private double lookups(String result) {
+        return registry.get(SubscriberMetrics.TOPIC_METADATA_LOOKUPS)
+                .tag(SubscriberMetrics.RESULT_TAG, result)
+                .functionCounter()
+                .count();
+    }
+
+    private void givenTopics(String... existing) {
+        when(admin.describeTopics(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> names = invocation.getArgument(0);
+            Map<String, KafkaFuture<TopicDescription>> descriptions = new HashMap<>();
+            for (String name : names) {
+                KafkaFutureImpl<TopicDescription> description = new KafkaFutureImpl<>();
+                if (Arrays.asList(existing).contains(name)) {
+                    description.complete(new TopicDescription(name, false, Collections.emptyList()));
+                } else {
+                    description.completeExceptionally(new UnknownTopicOrPartitionException(name));
+                }
+                descriptions.put(name, description);
+            }
+            DescribeTopicsResult result = mock(DescribeTopicsResult.class);
+            when(result.topicNameValues()).thenReturn(descriptions);
+            return result;
+        });
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
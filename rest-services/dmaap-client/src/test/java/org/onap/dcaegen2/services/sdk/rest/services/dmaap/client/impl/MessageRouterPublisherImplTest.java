@@ -26,13 +26,13 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.timeout.ReadTimeoutException;
 import io.vavr.collection.HashMultimap;
 import io.vavr.collection.List;
 
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.onap.dcaegen2.services.sdk.rest.services.adapters.http.HttpHeaders;
@@ -44,8 +44,11 @@ import org.onap.dcaegen2.services.sdk.rest.services.adapters.http.RxHttpClient;
 import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.ContentType;
 import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.api.MessageRouterPublisher;
 import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.error.ClientErrorReasonPresenter;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.error.ClientErrorReasons;
 import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.MessageRouterPublishRequest;
 import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.MessageRouterPublishResponse;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config.ImmutableMessageRouterPublisherConfig;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config.TransportType;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -71,13 +74,13 @@ import static org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.MessageR
  * @author <a href="mailto:piotr.jaszczyk@nokia.com">Piotr Jaszczyk</a>
  * @since April 2019
  */
-@Disabled
 class MessageRouterPublisherImplTest {
     private static final Duration TIMEOUT = Duration.ofSeconds(5);
     private static final String TOPIC_URL = "https://dmaap-mr/TOPIC";
     private static final int MAX_BATCH_SIZE = 3;
     private static final String ERROR_MESSAGE = "Something went wrong";
     private final RxHttpClient httpClient = mock(RxHttpClient.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
     private final ClientErrorReasonPresenter clientErrorReasonPresenter = mock(ClientErrorReasonPresenter.class);
     private final MessageRouterPublisher cut;
     private final ArgumentCaptor<HttpRequest> httpRequestArgumentCaptor = ArgumentCaptor.forClass(HttpRequest.class);
@@ -87,11 +90,14 @@ class MessageRouterPublisherImplTest {
     private final HttpResponse retryableHttpResponse = createHttpResponse("ERROR", 500);
     
     private MessageRouterPublisherImplTest()  throws Exception{
-        cut = new MessageRouterPublisherImpl(
-                httpClient, MAX_BATCH_SIZE, Duration.ofMinutes(1), clientErrorReasonPresenter);
+        cut = new MessageRouterPublisherImpl(httpClient, ImmutableMessageRouterPublisherConfig.builder()
+                .maxBatchSize(MAX_BATCH_SIZE)
+                .maxBatchDuration(Duration.ofMinutes(1))
+                .transport(TransportType.HTTP)
+                .build(), clientErrorReasonPresenter, meterRegistry);
     }
     @Test
-    void puttingElementsShouldYieldNonChunkedHttpRequest() {
+    void puttingElementsShouldYieldChunkedHttpRequest() {
         // given
         final List<String> threeJsonMessages = getAsMRJsonMessages(List.of("I", "like", "cookies"));
         final Flux<JsonObject> singleJsonMessageBatch = jsonBatch(threeJsonMessages);
@@ -108,7 +114,8 @@ class MessageRouterPublisherImplTest {
         assertThat(httpRequest.method()).isEqualTo(HttpMethod.POST);
         assertThat(httpRequest.url()).isEqualTo(TOPIC_URL);
         assertThat(httpRequest.body()).isNotNull();
-        assertThat(httpRequest.body().length()).isPositive();
+        assertThat(httpRequest.body().length()).isNull();
+        assertThat(extractNonEmptyJsonRequestBody(httpRequest)).hasSize(MAX_BATCH_SIZE);
     }
 
     @Test
@@ -468,6 +475,60 @@ class MessageRouterPublisherImplTest {
                 .verify(TIMEOUT);
     }
 
+    @Test
+    void onPut_shouldRecordSentRecordsBatchSizesAndSendTimes() {
+        // given
+        final List<String> threeJsonMessages = getAsMRJsonMessages(List.of("I", "like", "cookies"));
+        given(httpClient.call(any(HttpRequest.class))).willReturn(Mono.just(successHttpResponse));
+
+        // when
+        cut.put(jsonPublishRequest, jsonBatch(threeJsonMessages)).then().block(TIMEOUT);
+
+        // then
+        assertThat(meterRegistry.get(PublisherMetrics.RECORDS)
+                .tags(PublisherMetrics.TRANSPORT_TAG, "http", PublisherMetrics.OUTCOME_TAG, "sent")
+                .counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get(PublisherMetrics.BATCH_SIZE).summary().totalAmount()).isEqualTo(3);
+        assertThat(meterRegistry.get(PublisherMetrics.SEND).tag(PublisherMetrics.OUTCOME_TAG, "success")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(PublisherMetrics.IN_FLIGHT_RECORDS).gauge().value()).isZero();
+    }
+
+    @Test
+    void gauges_ofPublishersSharingRegistry_shouldBeTaggedPerPublisherAndRemovedOnClose() throws Exception {
+        // given
+        final MessageRouterPublisher other = new MessageRouterPublisherImpl(httpClient,
+                ImmutableMessageRouterPublisherConfig.builder().transport(TransportType.HTTP).build(),
+                clientErrorReasonPresenter, meterRegistry);
+
+        // when
+        final int registered = meterRegistry.find(PublisherMetrics.IN_FLIGHT_RECORDS).gauges().size();
+        other.close();
+
+        // then
+        assertThat(registered).isEqualTo(2);
+        assertThat(meterRegistry.find(PublisherMetrics.IN_FLIGHT_RECORDS).gauges())
+                .hasSize(1)
+                .allSatisfy(gauge -> assertThat(gauge.value()).isZero());
+    }
+
+    @Test
+    void onPut_whenConnectionExceptionOccurs_shouldCountFailedRecordsByClientErrorReason() {
+        // given
+        given(clientErrorReasonPresenter.present(any())).willReturn(ERROR_MESSAGE);
+        given(httpClient.call(any(HttpRequest.class))).willReturn(Mono.error(new ConnectException()));
+
+        // when
+        cut.put(plainPublishRequest, plainBatch(List.of("I", "like", "cookies"))).then().block(TIMEOUT);
+
+        // then
+        assertThat(meterRegistry.get(PublisherMetrics.FAILURES)
+                .tag(PublisherMetrics.REASON_TAG, ClientErrorReasons.SERVICE_UNAVAILABLE.header())
+                .counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get(PublisherMetrics.SEND).tag(PublisherMetrics.OUTCOME_TAG, "failure")
+                .timer().count()).isEqualTo(1);
+    }
+
     @Test
     void onPut_whenRetryableExceptionOccurs_shouldReturnCertainFailedResponse() {
         // given
@@ -0,0 +1,72 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSyntaxException;
+import io.vavr.collection.List;
+import java.io.StringReader;
+import org.junit.jupiter.api.Test;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.RawMessage;
+
+class MessageRouterResponseDecoderTest {
+
+    @Test
+    void decodeElements_shouldParseMessagesGivenAsStringsAndAsJsonValues() {
+        // given
+        final String body = "[\"{\\\"message\\\":\\\"I\\\"}\", {\"message\":\"like\"}, 42]";
+
+        // when
+        final List<JsonElement> elements = MessageRouterResponseDecoder.decodeElements(new StringReader(body));
+
+        // then
+        assertThat(elements).containsExactly(
+                JsonParser.parseString("{\"message\":\"I\"}"),
+                JsonParser.parseString("{\"message\":\"like\"}"),
+                JsonParser.parseString("42"));
+    }
+
+    @Test
+    void toRawMessage_shouldKeepTextOfStringMessages() {
+        // given
+        final List<JsonElement> messages = List.of(new JsonPrimitive("I like"),
+                JsonParser.parseString("{\"message\":\"cookies\"}"));
+
+        // when
+        final List<String> texts = messages.map(MessageRouterResponseDecoder::toRawMessage)
+                .map(RawMessage::asString);
+
+        // then
+        assertThat(texts).containsExactly("I like", "{\"message\":\"cookies\"}");
+    }
+
+    @Test
+    void decode_shouldThrowJsonSyntaxExceptionWhenBodyIsNotAnArray() {
+        assertThatExceptionOfType(JsonSyntaxException.class)
+                .isThrownBy(() -> MessageRouterResponseDecoder.decodeElements(new StringReader("{}")));
+    }
+}
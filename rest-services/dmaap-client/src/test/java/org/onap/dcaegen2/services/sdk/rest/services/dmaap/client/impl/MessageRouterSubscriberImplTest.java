@@ -29,11 +29,14 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSyntaxException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.netty.handler.timeout.ReadTimeoutException;
 import io.vavr.collection.HashMultimap;
 
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.onap.dcaegen2.services.sdk.model.streams.dmaap.ImmutableMessageRouterSource;
@@ -45,11 +48,16 @@ import org.onap.dcaegen2.services.sdk.rest.services.adapters.http.ImmutableHttpR
 import org.onap.dcaegen2.services.sdk.rest.services.adapters.http.RxHttpClient;
 import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.api.MessageRouterSubscriber;
 import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.error.ClientErrorReasonPresenter;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.error.ClientErrorReasons;
 import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.ImmutableMessageRouterSubscribeRequest;
 import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.MessageRouterSubscribeRequest;
 import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.MessageRouterSubscribeResponse;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config.ImmutableMessageRouterSubscriberConfig;
 import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config.MessageRouterSubscriberConfig;
+import org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config.TransportType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.net.ConnectException;
 
@@ -58,13 +66,15 @@ import java.net.ConnectException;
  * @since May 2019
  */
 
-@Disabled
 class MessageRouterSubscriberImplTest {
 
     private static final String ERROR_MESSAGE = "Something went wrong";
     private final RxHttpClient httpClient = mock(RxHttpClient.class);
     private final ClientErrorReasonPresenter clientErrorReasonPresenter = mock(ClientErrorReasonPresenter.class);
-    private final MessageRouterSubscriberConfig clientConfig = MessageRouterSubscriberConfig.createDefault();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MessageRouterSubscriberConfig clientConfig = ImmutableMessageRouterSubscriberConfig.builder()
+            .transport(TransportType.HTTP)
+            .build();
     private final MessageRouterSubscriber
             cut;
     private final ArgumentCaptor<HttpRequest> httpRequestArgumentCaptor = ArgumentCaptor.forClass(HttpRequest.class);
@@ -105,7 +115,7 @@ class MessageRouterSubscriberImplTest {
             .headers(HashMultimap.withSeq().empty())
             .build();
     private MessageRouterSubscriberImplTest() throws Exception{
-        cut = new MessageRouterSubscriberImpl(httpClient, clientConfig.gsonInstance(),clientErrorReasonPresenter);
+        cut = new MessageRouterSubscriberImpl(httpClient, clientConfig, clientErrorReasonPresenter, meterRegistry);
     }
     
     @Test
@@ -213,6 +223,27 @@ class MessageRouterSubscriberImplTest {
         assertThat(httpRequest.body()).isNull();
     }
 
+    @Test
+    void get_shouldCountFailuresByClientErrorReasonAndHttpStatus() {
+        // given
+        given(clientErrorReasonPresenter.present(any())).willReturn(ERROR_MESSAGE);
+        given(httpClient.call(any(HttpRequest.class)))
+                .willReturn(Mono.error(ReadTimeoutException.INSTANCE), Mono.just(retryableHttpResponse));
+
+        // when
+        cut.get(mrRequest).block();
+        cut.get(mrRequest).block();
+
+        // then
+        assertThat(meterRegistry.get(SubscriberMetrics.FAILURES)
+                .tag(SubscriberMetrics.REASON_TAG, ClientErrorReasons.TIMEOUT.header())
+                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(SubscriberMetrics.FAILURES)
+                .tag(SubscriberMetrics.REASON_TAG, "500 Something braked")
+                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(SubscriberMetrics.POLL).timer().count()).isEqualTo(2);
+    }
+
     @Test
     void getWithProperRequest_shouldReturnCertainFailedResponse() {
         given(httpClient.call(any(HttpRequest.class)))
@@ -234,4 +265,20 @@ class MessageRouterSubscriberImplTest {
                 mrRequest.consumerGroup(), mrRequest.consumerId()));
         assertThat(httpRequest.body()).isNull();
     }
+
+    @Test
+    void subscribeForElements_shouldEmitStreamedMessagesParsed() {
+        // given
+        given(httpClient.callForJsonArray(any(HttpRequest.class)))
+                .willReturn(Flux.just(new JsonPrimitive("{\"message\":\"I\"}"), new JsonPrimitive("\"like\"")));
+
+        // when
+        final Flux<JsonElement> elements = cut.subscribeForElements(mrRequest).take(2);
+
+        // then
+        StepVerifier.create(elements)
+                .expectNext(JsonParser.parseString("{\"message\":\"I\"}"))
+                .expectNext(new JsonPrimitive("like"))
+                .verifyComplete();
+    }
 }
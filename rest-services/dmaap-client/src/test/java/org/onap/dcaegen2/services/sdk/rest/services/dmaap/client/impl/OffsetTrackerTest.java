@@ -0,0 +1,99 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.impl;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffsetTrackerTest {
+
+    private static final TopicPartition PARTITION = new TopicPartition("TOPIC", 0);
+
+    private final OffsetTracker cut = new OffsetTracker();
+
+    @Test
+    void takeCommittable_givenOutOfOrderAcknowledgements_shouldCommitContiguousPrefixOnly() {
+        // given
+        Runnable first = cut.track(record(0));
+        Runnable second = cut.track(record(1));
+        Runnable third = cut.track(record(2));
+
+        // when
+        first.run();
+        third.run();
+
+        // then
+        assertThat(cut.acknowledgedSinceLastCommit()).isEqualTo(2);
+        assertThat(cut.takeCommittable()).containsExactly(entry(1));
+
+        // when
+        second.run();
+
+        // then
+        assertThat(cut.takeCommittable()).containsExactly(entry(3));
+    }
+
+    @Test
+    void takeCommittable_givenNoNewAcknowledgements_shouldReturnNothing() {
+        // given
+        cut.track(record(0)).run();
+        cut.takeCommittable();
+
+        // when
+        cut.track(record(1));
+
+        // then
+        assertThat(cut.takeCommittable()).isEmpty();
+        assertThat(cut.acknowledgedSinceLastCommit()).isZero();
+    }
+
+    @Test
+    void revoke_shouldReturnPendingOffsetsAndIgnoreLaterAcknowledgements() {
+        // given
+        cut.track(record(0)).run();
+        Runnable second = cut.track(record(1));
+
+        // when
+        assertThat(cut.revoke(Collections.singletonList(PARTITION))).containsExactly(entry(1));
+        second.run();
+
+        // then
+        assertThat(cut.acknowledgedSinceLastCommit()).isEqualTo(1);
+        assertThat(cut.takeCommittable()).isEmpty();
+    }
+
+    private static ConsumerRecord<String, String> record(long offset) {
+        return new ConsumerRecord<>(PARTITION.topic(), PARTITION.partition(), offset, null, "value");
+    }
+
+    private static Map.Entry<TopicPartition, OffsetAndMetadata> entry(long offset) {
+        return new AbstractMap.SimpleEntry<>(PARTITION, new OffsetAndMetadata(offset));
+    }
+}
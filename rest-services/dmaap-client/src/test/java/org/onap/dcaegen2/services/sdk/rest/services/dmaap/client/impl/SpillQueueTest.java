@@ -0,0 +1,177 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.impl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpillQueueTest {
+
+    private static final int SEGMENT_SIZE = 1024;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldReturnRecordsInAppendOrderAcrossSegments() throws IOException {
+        // given
+        final SpillQueue queue = new SpillQueue(directory, SEGMENT_SIZE, 16 * SEGMENT_SIZE);
+        queue.appendAll(records(0, 50));
+        assertThat(segmentFiles()).isGreaterThan(1);
+
+        // when
+        final List<SpillQueue.Record> first = queue.peek(30);
+        queue.remove(30);
+        final List<SpillQueue.Record> rest = queue.peek(100);
+
+        // then
+        assertThat(payloads(first)).isEqualTo(payloads(records(0, 30)));
+        assertThat(payloads(rest)).isEqualTo(payloads(records(30, 50)));
+        assertThat(queue.size()).isEqualTo(20);
+    }
+
+    @Test
+    void shouldRecoverRecordsNotRemovedBeforeReopening() throws IOException {
+        // given
+        final SpillQueue queue = new SpillQueue(directory, SEGMENT_SIZE, 16 * SEGMENT_SIZE);
+        queue.appendAll(records(0, 50));
+        queue.remove(30);
+        queue.close();
+
+        // when
+        final SpillQueue reopened = new SpillQueue(directory, SEGMENT_SIZE, 16 * SEGMENT_SIZE);
+        reopened.appendAll(records(50, 55));
+
+        // then
+        assertThat(reopened.size()).isEqualTo(25);
+        assertThat(payloads(reopened.peek(100))).isEqualTo(payloads(records(30, 55)));
+    }
+
+    @Test
+    void shouldRecoverRecordsUpToFirstCorruptFrame() throws IOException {
+        // given
+        final SpillQueue queue = new SpillQueue(directory, SEGMENT_SIZE, 16 * SEGMENT_SIZE);
+        queue.appendAll(records(0, 5));
+        queue.close();
+        final Path segment = singleSegmentFile();
+        final byte[] contents = Files.readAllBytes(segment);
+        final byte[] corruptPayload = record(3).payload();
+        contents[indexOf(contents, corruptPayload)] ^= 1;
+        Files.write(segment, contents);
+
+        // when
+        final SpillQueue reopened = new SpillQueue(directory, SEGMENT_SIZE, 16 * SEGMENT_SIZE);
+        reopened.appendAll(records(5, 6));
+
+        // then
+        assertThat(reopened.size()).isEqualTo(4);
+        assertThat(payloads(reopened.peek(100))).isEqualTo(payloads(records(Arrays.asList(0, 1, 2, 5))));
+    }
+
+    @Test
+    void shouldRecoverSegmentsWithTheirOwnSizeWhenSegmentSizeChanged() throws IOException {
+        // given
+        final SpillQueue queue = new SpillQueue(directory, SEGMENT_SIZE, 16 * SEGMENT_SIZE);
+        queue.appendAll(records(0, 50));
+        queue.close();
+
+        // when
+        final SpillQueue reopened = new SpillQueue(directory, SEGMENT_SIZE / 2, 16 * SEGMENT_SIZE);
+        reopened.appendAll(records(50, 55));
+
+        // then
+        assertThat(reopened.size()).isEqualTo(55);
+        assertThat(payloads(reopened.peek(100))).isEqualTo(payloads(records(0, 55)));
+    }
+
+    @Test
+    void shouldRejectRecordsAboveSizeLimitAndDeleteConsumedSegments() throws IOException {
+        // given
+        final SpillQueue queue = new SpillQueue(directory, SEGMENT_SIZE, 2 * SEGMENT_SIZE);
+
+        // when
+        final int appended = queue.appendAll(records(0, 100));
+        queue.remove(appended);
+
+        // then
+        assertThat(appended).isGreaterThan(0).isLessThan(100);
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(segmentFiles()).isEqualTo(1);
+        assertThat(queue.appendAll(Collections.singletonList(record(100)))).isEqualTo(1);
+    }
+
+    private Path singleSegmentFile() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            final List<Path> segments = files.collect(Collectors.toList());
+            assertThat(segments).hasSize(1);
+            return segments.get(0);
+        }
+    }
+
+    private static int indexOf(byte[] contents, byte[] part) {
+        for (int i = 0; i + part.length <= contents.length; i++) {
+            if (Arrays.equals(contents, i, i + part.length, part, 0, part.length)) {
+                return i;
+            }
+        }
+        throw new AssertionError("not found");
+    }
+
+    private long segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    private static List<SpillQueue.Record> records(int from, int to) {
+        return IntStream.range(from, to).mapToObj(SpillQueueTest::record).collect(Collectors.toList());
+    }
+
+    private static List<SpillQueue.Record> records(List<Integer> indexes) {
+        return indexes.stream().map(SpillQueueTest::record).collect(Collectors.toList());
+    }
+
+    private static SpillQueue.Record record(int i) {
+        return new SpillQueue.Record("TOPIC", i % 2 == 0 ? null : "key-" + i,
+                ("{\"event\":" + i + "}").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<String> payloads(List<SpillQueue.Record> records) {
+        return records.stream()
+                .map(record -> record.topic() + "/" + record.key() + "/"
+                        + new String(record.payload(), StandardCharsets.UTF_8))
+                .collect(Collectors.toList());
+    }
+}
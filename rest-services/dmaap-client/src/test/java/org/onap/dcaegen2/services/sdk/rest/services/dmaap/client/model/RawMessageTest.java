@@ -0,0 +1,60 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model;
+
+import com.google.gson.JsonElement;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RawMessageTest {
+
+    private static final byte[] PAYLOAD = "{\"key\":\"value\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void payload_shouldBeReadOnlyViewOfConsumedBytes() {
+        // when
+        ByteBuffer payload = RawMessage.of(PAYLOAD).payload();
+
+        // then
+        assertThat(payload.isReadOnly()).isTrue();
+        assertThat(payload.remaining()).isEqualTo(PAYLOAD.length);
+    }
+
+    @Test
+    void asJsonElement_shouldParsePayloadOnceAndKeepPayloadIntact() {
+        // given
+        RawMessage cut = RawMessage.of(PAYLOAD);
+
+        // when
+        JsonElement first = cut.asJsonElement();
+        JsonElement second = cut.asJsonElement();
+
+        // then
+        assertThat(first.getAsJsonObject().get("key").getAsString()).isEqualTo("value");
+        assertThat(second).isSameAs(first);
+        assertThat(cut.payload().remaining()).isEqualTo(PAYLOAD.length);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+package org.onap.dcaegen2.services.sdk.rest.services.dmaap.client.model.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MessageRouterSubscriberConfigTest {
+    @Test
+    void shouldSuccessfullyCreateObjectForDefaults() {
+        MessageRouterSubscriberConfig config = MessageRouterSubscriberConfig.createDefault();
+
+        assertThat(config.streamingBufferSize()).isEqualTo(1000);
+        assertThat(config.commitBatchSize()).isEqualTo(100);
+        assertThat(config.pollTimeout()).isEqualTo(Duration.ofMillis(500));
+    }
+
+    @Test
+    void shouldThrowInvalidArgumentExceptionForInvalidProcessingParallelism() {
+        assertThrows(IllegalArgumentException.class, () -> builder().processingParallelism(0).build());
+        assertThrows(IllegalArgumentException.class, () -> builder().processingParallelism(-2).build());
+    }
+
+    @Test
+    void shouldThrowInvalidArgumentExceptionForInvalidStreamingBufferSize() {
+        assertThrows(IllegalArgumentException.class, () -> builder().streamingBufferSize(0).build());
+        assertThrows(IllegalArgumentException.class, () -> builder().streamingBufferSize(-5).build());
+    }
+
+    @Test
+    void shouldThrowInvalidArgumentExceptionForInvalidCommitBatchSize() {
+        assertThrows(IllegalArgumentException.class, () -> builder().commitBatchSize(0).build());
+        assertThrows(IllegalArgumentException.class, () -> builder().commitBatchSize(-5).build());
+    }
+
+    @Test
+    void shouldThrowInvalidArgumentExceptionForInvalidPollTimeout() {
+        assertThrows(IllegalArgumentException.class, () -> builder().pollTimeout(Duration.ZERO).build());
+        assertThrows(IllegalArgumentException.class, () -> builder().pollTimeout(Duration.ofMillis(-1)).build());
+    }
+
+    private ImmutableMessageRouterSubscriberConfig.Builder builder() {
+        return ImmutableMessageRouterSubscriberConfig.builder();
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.adapters.http;
+
+import com.google.gson.JsonElement;
+import io.netty.buffer.ByteBuf;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+/**
+ * Decodes a body into items while it is being received, see
+ * {@link RxHttpClient#streamDecoded(HttpRequest, BodyDecoder)}.
+ *
+ * @param <T> type of the decoded items
+ * @since 1.9.5
+ */
+@FunctionalInterface
+public interface BodyDecoder<T> {
+
+    /**
+     * @param body chunks of the body, released by the caller once they were passed on
+     * @return items decoded from the body
+     */
+    Flux<T> decode(Publisher<ByteBuf> body);
+
+    /**
+     * @return decoder of a body holding a JSON array into its elements, see {@link JsonArrayDecoder}
+     */
+    static BodyDecoder<JsonElement> jsonArray() {
+        return JsonArrayDecoder::decode;
+    }
+
+    /**
+     * @return decoder of a newline-delimited JSON body into its values, see {@link NdJsonDecoder}
+     */
+    static BodyDecoder<JsonElement> ndJson() {
+        return NdJsonDecoder::decode;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.adapters.http;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.ReferenceCounted;
+
+/**
+ * {@link HttpResponse} keeping its body in the buffer it was received into, so reading it does not copy it onto the
+ * heap.
+ *
+ * <p>The buffer is reference-counted: the body can be read only until the response is released, e.g. by closing it.
+ * See {@link RxHttpClient#call(HttpRequest, java.util.function.Function)}, which releases the response once it has
+ * been read.</p>
+ *
+ * @since 1.9.5
+ */
+public interface BufferedHttpResponse extends HttpResponse, ReferenceCounted, AutoCloseable {
+
+    /**
+     * @return read-only view of the body, valid until the response is released
+     */
+    ByteBuf body();
+
+    /**
+     * Releases the response, unless it has already been released.
+     */
+    @Override
+    default void close() {
+        if (refCnt() > 0) {
+            release();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.adapters.http;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.function.ToDoubleFunction;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Registers the gauges of connection pools in a given registry, under the names used by Reactor Netty for the
+ * global registry.
+ *
+ * @since 1.9.5
+ */
+final class ConnectionPoolMeterRegistrar implements ConnectionProvider.MeterRegistrar {
+
+    private static final String PREFIX = "reactor.netty.connection.provider.";
+    private final MeterRegistry registry;
+
+    ConnectionPoolMeterRegistrar(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void registerMetrics(String poolName, String id, SocketAddress remoteAddress,
+            ConnectionPoolMetrics metrics) {
+        final Tags tags = Tags.of("id", id, "name", poolName, "remote.address", format(remoteAddress));
+        gauge("total.connections", "Number of active and idle connections",
+                metrics, ConnectionPoolMetrics::allocatedSize, tags);
+        gauge("active.connections", "Number of connections in use",
+                metrics, ConnectionPoolMetrics::acquiredSize, tags);
+        gauge("idle.connections", "Number of idle connections",
+                metrics, ConnectionPoolMetrics::idleSize, tags);
+        gauge("pending.connections", "Number of calls waiting for a connection",
+                metrics, ConnectionPoolMetrics::pendingAcquireSize, tags);
+        gauge("max.connections", "Maximum number of connections",
+                metrics, ConnectionPoolMetrics::maxAllocatedSize, tags);
+        gauge("max.pending.connections", "Maximum number of calls waiting for a connection",
+                metrics, ConnectionPoolMetrics::maxPendingAcquireSize, tags);
+    }
+
+    private void gauge(String name, String description, ConnectionPoolMetrics metrics,
+            ToDoubleFunction<ConnectionPoolMetrics> value, Tags tags) {
+        Gauge.builder(PREFIX + name, metrics, value)
+                .description(description)
+                .tags(tags)
+                .strongReference(true)
+                .register(registry);
+    }
+
+    private static String format(SocketAddress address) {
+        if (address instanceof InetSocketAddress) {
+            final InetSocketAddress inetAddress = (InetSocketAddress) address;
+            return inetAddress.getHostString() + ":" + inetAddress.getPort();
+        }
+        return address.toString();
+    }
+}
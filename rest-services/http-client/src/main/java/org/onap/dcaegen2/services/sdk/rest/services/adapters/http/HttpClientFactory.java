@@ -20,17 +20,40 @@
 
 package org.onap.dcaegen2.services.sdk.rest.services.adapters.http;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.Channel;
+import io.netty.handler.codec.http2.Http2Exception;
+import io.netty.handler.codec.http2.Http2FrameCodec;
+import io.netty.handler.codec.http2.Http2LocalFlowController;
+import io.netty.handler.codec.http2.Http2Stream;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
 import io.netty.handler.ssl.SslContext;
+import java.time.Duration;
+import java.util.function.BiConsumer;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.onap.dcaegen2.services.sdk.rest.services.adapters.http.config.ConnectionPoolConfig;
+import org.onap.dcaegen2.services.sdk.rest.services.adapters.http.config.HostConnectionPoolConfig;
+import org.onap.dcaegen2.services.sdk.rest.services.adapters.http.config.Http2Config;
+import org.onap.dcaegen2.services.sdk.rest.services.adapters.http.config.HttpProtocolVersion;
+import org.onap.dcaegen2.services.sdk.rest.services.adapters.http.config.LeaseStrategy;
+import org.onap.dcaegen2.services.sdk.rest.services.adapters.http.config.RxHttpClientConfig;
 import org.onap.dcaegen2.services.sdk.security.ssl.SecurityKeys;
 import org.onap.dcaegen2.services.sdk.security.ssl.SslFactory;
 import org.onap.dcaegen2.services.sdk.security.ssl.TrustStoreKeys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.netty.Connection;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.Http2AllocationStrategy;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.transport.AddressUtils;
 
 class HttpClientFactory {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpClientFactory.class);
     private static final SslFactory SSL_FACTORY = new SslFactory();
 
     private HttpClientFactory() {
@@ -40,49 +63,202 @@ class HttpClientFactory {
         return HttpClient.create();
     }
 
-    static HttpClient create(ConnectionPoolConfig connectionPoolConfig){
-        return HttpClient.create(createConnectionProvider(connectionPoolConfig));
-    }
-
     static HttpClient create(SecurityKeys securityKeys){
         final SslContext sslContext = SSL_FACTORY.createSecureClientContext(securityKeys);
         return HttpClient.create().secure(sslContextSpec -> sslContextSpec.sslContext(sslContext));
     }
 
-    static HttpClient create(SecurityKeys securityKeys, ConnectionPoolConfig connectionPoolConfig){
-        final SslContext sslContext = SSL_FACTORY.createSecureClientContext(securityKeys);
-        final ConnectionProvider connectionProvider = createConnectionProvider(connectionPoolConfig);
-        return HttpClient.create(connectionProvider).secure(sslContextSpec -> sslContextSpec.sslContext(sslContext));
-    }
-
     static HttpClient create(TrustStoreKeys trustStoreKeys){
         final SslContext sslContext = SSL_FACTORY.createSecureClientContext(trustStoreKeys);
         return HttpClient.create().secure(sslContextSpec -> sslContextSpec.sslContext(sslContext));
     }
 
-    static HttpClient create(TrustStoreKeys trustStoreKeys, ConnectionPoolConfig connectionPoolConfig){
-        final SslContext sslContext = SSL_FACTORY.createSecureClientContext(trustStoreKeys);
-        final ConnectionProvider connectionProvider = createConnectionProvider(connectionPoolConfig);
-        return HttpClient.create(connectionProvider).secure(sslContextSpec -> sslContextSpec.sslContext(sslContext));
-    }
-
     static HttpClient createInsecure() {
         final SslContext context = SSL_FACTORY.createInsecureClientContext();
         return HttpClient.create().secure(sslContextSpec -> sslContextSpec.sslContext(context));
     }
 
-    static HttpClient createInsecure(ConnectionPoolConfig connectionPoolConfig) {
-        final SslContext context = SSL_FACTORY.createInsecureClientContext();
-        final ConnectionProvider connectionProvider = createConnectionProvider(connectionPoolConfig);
-        return HttpClient.create(connectionProvider).secure(sslContextSpec -> sslContextSpec.sslContext(context));
+    static HttpClient create(RxHttpClientConfig config) {
+        if (config.protocol() == HttpProtocolVersion.H2) {
+            throw new IllegalArgumentException("H2 requires a secure client, use H2C for HTTP/2 over cleartext");
+        }
+        return withProtocol(createForPool(config), config, false);
+    }
+
+    static HttpClient create(SecurityKeys securityKeys, RxHttpClientConfig config) {
+        return createSecure(SSL_FACTORY.createSecureClientContext(securityKeys, applicationProtocols(config)), config);
+    }
+
+    static HttpClient create(TrustStoreKeys trustStoreKeys, RxHttpClientConfig config) {
+        return createSecure(SSL_FACTORY.createSecureClientContext(trustStoreKeys, applicationProtocols(config)), config);
+    }
+
+    static HttpClient createInsecure(RxHttpClientConfig config) {
+        return createSecure(SSL_FACTORY.createInsecureClientContext(applicationProtocols(config)), config);
+    }
+
+    private static HttpClient createSecure(SslContext sslContext, RxHttpClientConfig config) {
+        if (config.protocol() == HttpProtocolVersion.H2C) {
+            throw new IllegalArgumentException("H2C is HTTP/2 over cleartext, use H2 for a secure client");
+        }
+        final HttpClient httpClient = createForPool(config)
+                .secure(sslContextSpec -> sslContextSpec.sslContext(sslContext));
+        return withProtocol(httpClient, config, true);
+    }
+
+    private static HttpClient createForPool(RxHttpClientConfig config) {
+        if (config.protocol() != HttpProtocolVersion.HTTP_1_1) {
+            return HttpClient.create(createHttp2ConnectionProvider(config));
+        }
+        return config.connectionPool() == null
+                ? HttpClient.create()
+                : HttpClient.create(createConnectionProvider(config.connectionPool()));
+    }
+
+    private static ApplicationProtocolConfig applicationProtocols(RxHttpClientConfig config) {
+        switch (config.protocol()) {
+            case H2:
+                return alpn(ApplicationProtocolNames.HTTP_2);
+            case H2_WITH_FALLBACK:
+                return alpn(ApplicationProtocolNames.HTTP_2, ApplicationProtocolNames.HTTP_1_1);
+            default:
+                return ApplicationProtocolConfig.DISABLED;
+        }
+    }
+
+    private static ApplicationProtocolConfig alpn(String... protocols) {
+        return new ApplicationProtocolConfig(ApplicationProtocolConfig.Protocol.ALPN,
+                ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+                ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+                protocols);
+    }
+
+    private static HttpClient withProtocol(HttpClient httpClient, RxHttpClientConfig config, boolean secure) {
+        switch (config.protocol()) {
+            case H2:
+                return withHttp2Settings(httpClient.protocol(HttpProtocol.H2), config.http2());
+            case H2C:
+                return withHttp2Settings(httpClient.protocol(HttpProtocol.H2C), config.http2());
+            case H2_WITH_FALLBACK:
+                final HttpProtocol http2 = secure ? HttpProtocol.H2 : HttpProtocol.H2C;
+                return withHttp2Settings(httpClient.protocol(HttpProtocol.HTTP11, http2), config.http2());
+            default:
+                return httpClient;
+        }
+    }
+
+    private static HttpClient withHttp2Settings(HttpClient httpClient, Http2Config http2Config) {
+        final Integer initialStreamWindowSize = http2Config.initialStreamWindowSize();
+        final Integer connectionWindowSize = http2Config.connectionWindowSize();
+        HttpClient result = httpClient;
+        if (initialStreamWindowSize != null) {
+            result = result.http2Settings(settings -> settings.initialWindowSize(initialStreamWindowSize));
+        }
+        if (connectionWindowSize != null) {
+            result = result.doOnConnected(connection -> applyConnectionWindowSize(connection, connectionWindowSize));
+        }
+        return result;
+    }
+
+    /**
+     * HTTP/2 has no setting for the connection window, it is enlarged with a {@code WINDOW_UPDATE} frame sent once
+     * the connection is established.
+     */
+    private static void applyConnectionWindowSize(Connection connection, int windowSize) {
+        final Channel channel = connection.channel();
+        final Channel http2Channel = channel.parent() == null ? channel : channel.parent();
+        final Http2FrameCodec codec = http2Channel.pipeline().get(Http2FrameCodec.class);
+        if (codec == null) {
+            return;
+        }
+        final Http2Stream connectionStream = codec.connection().connectionStream();
+        final Http2LocalFlowController flowController = codec.connection().local().flowController();
+        final int delta = windowSize - flowController.initialWindowSize(connectionStream);
+        if (delta > 0) {
+            try {
+                flowController.incrementWindowSize(connectionStream, delta);
+            } catch (Http2Exception e) {
+                LOGGER.warn("Could not enlarge the HTTP/2 connection window to {} bytes", windowSize, e);
+            }
+        }
+    }
+
+    private static ConnectionProvider createHttp2ConnectionProvider(RxHttpClientConfig config) {
+        final ConnectionPoolConfig connectionPoolConfig = config.connectionPool();
+        final long maxConcurrentStreams = config.http2().maxConcurrentStreams();
+        if (connectionPoolConfig == null) {
+            return ConnectionProvider.builder("http2")
+                    .allocationStrategy(http2AllocationStrategy(maxConcurrentStreams,
+                            ConnectionProvider.DEFAULT_POOL_MAX_CONNECTIONS))
+                    .build();
+        }
+        return configurePool(ConnectionProvider.builder(connectionPoolConfig.name()), connectionPoolConfig,
+                (spec, maxConnections) -> spec.allocationStrategy(
+                        http2AllocationStrategy(maxConcurrentStreams, maxConnections)))
+                .allocationStrategy(http2AllocationStrategy(maxConcurrentStreams,
+                        connectionPoolConfig.connectionPool()))
+                .build();
+    }
+
+    private static Http2AllocationStrategy http2AllocationStrategy(long maxConcurrentStreams, int maxConnections) {
+        return Http2AllocationStrategy.builder()
+                .maxConcurrentStreams(maxConcurrentStreams)
+                .maxConnections(maxConnections)
+                .build();
     }
 
     @NotNull
     private static ConnectionProvider createConnectionProvider(ConnectionPoolConfig connectionPoolConfig) {
-        return ConnectionProvider.builder("fixed")
+        return configurePool(ConnectionProvider.builder(connectionPoolConfig.name()), connectionPoolConfig,
+                ConnectionProvider.HostSpecificSpec::maxConnections)
                 .maxConnections(connectionPoolConfig.connectionPool())
-                .maxIdleTime(connectionPoolConfig.maxIdleTime())
-                .maxLifeTime(connectionPoolConfig.maxLifeTime())
                 .build();
     }
+
+    /**
+     * @param hostConnections applies the connection limit of a remote host to its pool, HTTP/2 pools limit it
+     *                        through their allocation strategy, which a plain {@code maxConnections} would reset
+     */
+    private static ConnectionProvider.Builder configurePool(ConnectionProvider.Builder builder,
+            ConnectionPoolConfig connectionPoolConfig,
+            BiConsumer<ConnectionProvider.HostSpecificSpec, Integer> hostConnections) {
+        configurePoolSpec(builder, connectionPoolConfig,
+                connectionPoolConfig.pendingAcquireMaxCount(), connectionPoolConfig.pendingAcquireTimeout());
+        for (HostConnectionPoolConfig host : connectionPoolConfig.remoteHosts()) {
+            builder.forRemoteHost(AddressUtils.createUnresolved(host.host(), host.port()), spec -> {
+                hostConnections.accept(spec, host.connectionPool());
+                configurePoolSpec(spec, connectionPoolConfig,
+                        host.pendingAcquireMaxCount(), host.pendingAcquireTimeout());
+            });
+        }
+        return builder;
+    }
+
+    /**
+     * Remote host specific pools do not inherit the settings of the provider, so they are configured the same way.
+     */
+    private static <S extends ConnectionProvider.ConnectionPoolSpec<S>> void configurePoolSpec(S spec,
+            ConnectionPoolConfig connectionPoolConfig,
+            @Nullable Integer pendingAcquireMaxCount, @Nullable Duration pendingAcquireTimeout) {
+        spec.maxIdleTime(connectionPoolConfig.maxIdleTime())
+                .maxLifeTime(connectionPoolConfig.maxLifeTime());
+        if (pendingAcquireMaxCount != null) {
+            spec.pendingAcquireMaxCount(pendingAcquireMaxCount);
+        }
+        if (pendingAcquireTimeout != null) {
+            spec.pendingAcquireTimeout(pendingAcquireTimeout);
+        }
+        if (connectionPoolConfig.leaseStrategy() == LeaseStrategy.LIFO) {
+            spec.lifo();
+        } else {
+            spec.fifo();
+        }
+        if (connectionPoolConfig.evictionInterval() != null) {
+            spec.evictInBackground(connectionPoolConfig.evictionInterval());
+        }
+        final MeterRegistry meterRegistry = connectionPoolConfig.meterRegistry();
+        if (meterRegistry != null) {
+            spec.metrics(true, () -> new ConnectionPoolMeterRegistrar(meterRegistry));
+        }
+    }
 }
@@ -31,6 +31,7 @@ public final class HttpHeaders {
 
     public static final String CONTENT_TYPE = "Content-Type";
     public static final String CONTENT_LENGTH = "Content-Length";
+    public static final String CONTENT_ENCODING = "Content-Encoding";
     public static final String CHUNKED = "chunked";
     public static final String TRANSFER_ENCODING_TYPE = "Transfer-Encoding";
 }
@@ -24,6 +24,9 @@ import com.google.gson.Gson;
 import io.vavr.collection.Multimap;
 import org.immutables.value.Value;
 import org.onap.dcaegen2.services.sdk.rest.services.adapters.http.exceptions.HttpException;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
@@ -72,6 +75,22 @@ public interface HttpResponse {
         return gson.fromJson(bodyAsString(charset), clazz);
     }
 
+    /**
+     * @return read-only view of the body
+     * @since 1.9.5
+     */
+    default ByteBuffer bodyAsByteBuffer() {
+        return ByteBuffer.wrap(rawBody()).asReadOnlyBuffer();
+    }
+
+    /**
+     * @return stream of the body, which can be decoded without reading the whole body into a {@code String} first
+     * @since 1.9.5
+     */
+    default InputStream bodyAsInputStream() {
+        return new ByteArrayInputStream(rawBody());
+    }
+
     default void throwIfUnsuccessful() {
         if (!successful()) {
             throw new HttpException(url(), statusCode(), statusReason());
@@ -0,0 +1,190 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.adapters.http;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import io.netty.buffer.ByteBuf;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Decodes a body holding a JSON array into its elements while the body is being received.
+ *
+ * <p>The body is scanned byte by byte and only the element being received is buffered, so the array is never held
+ * in memory as a whole and every element is emitted as soon as its last byte arrives. The body must be UTF-8
+ * encoded.</p>
+ *
+ * @since 1.9.5
+ */
+public final class JsonArrayDecoder {
+
+    private static final int INITIAL_ELEMENT_CAPACITY = 256;
+
+    private byte[] element = new byte[INITIAL_ELEMENT_CAPACITY];
+    private int length;
+    private boolean opened;
+    private boolean closed;
+    private boolean inElement;
+    private boolean inString;
+    private boolean escaped;
+    private int nesting;
+    private final List<JsonElement> decoded = new ArrayList<>();
+
+    private JsonArrayDecoder() {
+    }
+
+    /**
+     * @param body chunks of the body, released by the caller once they were passed on
+     * @return elements of the array; errors with {@link JsonSyntaxException} when the body is not a JSON array
+     */
+    public static Flux<JsonElement> decode(Publisher<ByteBuf> body) {
+        return Flux.defer(() -> {
+            final JsonArrayDecoder decoder = new JsonArrayDecoder();
+            return Flux.from(body)
+                    .concatMapIterable(decoder::feed)
+                    .concatWith(Mono.fromRunnable(decoder::finish));
+        });
+    }
+
+    private List<JsonElement> feed(ByteBuf chunk) {
+        decoded.clear();
+        chunk.forEachByte(this::process);
+        return new ArrayList<>(decoded);
+    }
+
+    private void finish() {
+        if (!closed) {
+            throw new JsonSyntaxException("The JSON array is not terminated");
+        }
+    }
+
+    private boolean process(byte value) {
+        if (inElement) {
+            if (processElement(value)) {
+                return true;
+            }
+        } else if (closed) {
+            requireWhitespace(value);
+            return true;
+        } else if (!opened) {
+            if (value == '[') {
+                opened = true;
+            } else {
+                requireWhitespace(value);
+            }
+            return true;
+        }
+        processSeparator(value);
+        return true;
+    }
+
+    /**
+     * @return whether the value was consumed as a part of the element
+     */
+    private boolean processElement(byte value) {
+        if (inString) {
+            append(value);
+            if (escaped) {
+                escaped = false;
+            } else if (value == '\\') {
+                escaped = true;
+            } else if (value == '"') {
+                inString = false;
+                emitIfComplete();
+            }
+            return true;
+        }
+        if (nesting == 0) {
+            if (value == ',' || value == ']' || isWhitespace(value)) {
+                emit();
+                return false;
+            }
+            append(value);
+            return true;
+        }
+        append(value);
+        if (value == '"') {
+            inString = true;
+        } else if (value == '{' || value == '[') {
+            nesting++;
+        } else if (value == '}' || value == ']') {
+            nesting--;
+            emitIfComplete();
+        }
+        return true;
+    }
+
+    private void processSeparator(byte value) {
+        if (value == ']') {
+            closed = true;
+        } else if (value != ',' && !isWhitespace(value)) {
+            inElement = true;
+            append(value);
+            if (value == '"') {
+                inString = true;
+            } else if (value == '{' || value == '[') {
+                nesting = 1;
+            }
+        }
+    }
+
+    private void emitIfComplete() {
+        if (nesting == 0 && !inString) {
+            emit();
+        }
+    }
+
+    private void emit() {
+        decoded.add(JsonParser.parseReader(new InputStreamReader(
+                new ByteArrayInputStream(element, 0, length), StandardCharsets.UTF_8)));
+        length = 0;
+        inElement = false;
+    }
+
+    private void append(byte value) {
+        if (length == element.length) {
+            element = Arrays.copyOf(element, length * 2);
+        }
+        element[length++] = value;
+    }
+
+    private static void requireWhitespace(byte value) {
+        if (!isWhitespace(value)) {
+            throw new JsonSyntaxException(String.format("Unexpected character '%c' outside of the JSON array",
+                    (char) value));
+        }
+    }
+
+    private static boolean isWhitespace(byte value) {
+        return value == ' ' || value == '\t' || value == '\n' || value == '\r';
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.adapters.http;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import io.netty.buffer.ByteBuf;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Decodes a newline-delimited JSON body, holding a JSON value on every line, into its values while the body is being
+ * received.
+ *
+ * <p>Only the line being received is buffered and every value is emitted as soon as its line is terminated. Blank
+ * lines are skipped and the last line does not have to be terminated. The body must be UTF-8 encoded.</p>
+ *
+ * @since 1.9.5
+ */
+public final class NdJsonDecoder {
+
+    private static final int INITIAL_LINE_CAPACITY = 256;
+
+    private byte[] line = new byte[INITIAL_LINE_CAPACITY];
+    private int length;
+    private final List<JsonElement> decoded = new ArrayList<>();
+
+    private NdJsonDecoder() {
+    }
+
+    /**
+     * @param body chunks of the body, released by the caller once they were passed on
+     * @return values of the lines; errors with {@link JsonSyntaxException} when a line does not hold a single JSON
+     *     value
+     */
+    public static Flux<JsonElement> decode(Publisher<ByteBuf> body) {
+        return Flux.defer(() -> {
+            final NdJsonDecoder decoder = new NdJsonDecoder();
+            return Flux.from(body)
+                    .concatMapIterable(decoder::feed)
+                    .concatWith(Mono.fromCallable(decoder::finish));
+        });
+    }
+
+    private List<JsonElement> feed(ByteBuf chunk) {
+        decoded.clear();
+        chunk.forEachByte(this::process);
+        return new ArrayList<>(decoded);
+    }
+
+    private JsonElement finish() {
+        return isBlank() ? null : parseLine();
+    }
+
+    private boolean process(byte value) {
+        if (value == '\n') {
+            if (!isBlank()) {
+                decoded.add(parseLine());
+            }
+            length = 0;
+        } else {
+            append(value);
+        }
+        return true;
+    }
+
+    private JsonElement parseLine() {
+        return JsonParser.parseReader(new InputStreamReader(
+                new ByteArrayInputStream(line, 0, length), StandardCharsets.UTF_8));
+    }
+
+    private boolean isBlank() {
+        for (int i = 0; i < length; i++) {
+            if (line[i] != ' ' && line[i] != '\t' && line[i] != '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void append(byte value) {
+        if (length == line.length) {
+            line = Arrays.copyOf(line, length * 2);
+        }
+        line[length++] = value;
+    }
+}
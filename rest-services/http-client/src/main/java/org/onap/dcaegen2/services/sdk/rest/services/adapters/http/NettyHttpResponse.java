@@ -20,6 +20,11 @@
 
 package org.onap.dcaegen2.services.sdk.rest.services.adapters.http;
 
+import com.google.gson.Gson;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpStatusClass;
@@ -27,8 +32,12 @@ import io.vavr.Tuple;
 import io.vavr.Tuple2;
 import io.vavr.collection.HashMultimap;
 import io.vavr.collection.Multimap;
+import io.netty.util.AbstractReferenceCounted;
 import reactor.netty.http.client.HttpClientResponse;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -37,20 +46,36 @@ import java.util.stream.Collectors;
  * @author <a href="mailto:piotr.jaszczyk@nokia.com">Piotr Jaszczyk</a>
  * @since March 2019
  */
-class NettyHttpResponse implements HttpResponse {
+class NettyHttpResponse extends AbstractReferenceCounted implements BufferedHttpResponse {
 
     private final String url;
     private final HttpResponseStatus status;
     private final HttpHeaders headers;
-    private final byte[] body;
+    private final ByteBuf body;
 
-    public NettyHttpResponse(String url, HttpClientResponse response, byte[] body) {
+    NettyHttpResponse(String url, HttpClientResponse response, ByteBuf body) {
+        this(url, response.status(), response.responseHeaders(), body);
+    }
+
+    private NettyHttpResponse(String url, HttpResponseStatus status, HttpHeaders headers, ByteBuf body) {
         this.url = url;
-        this.status = response.status();
-        this.headers = response.responseHeaders();
+        this.status = status;
+        this.headers = headers;
         this.body = body;
     }
 
+    /**
+     * Copies the body onto the heap and releases this response, so the returned response does not have to be
+     * released.
+     */
+    NettyHttpResponse detach() {
+        try {
+            return new NettyHttpResponse(url, status, headers, Unpooled.copiedBuffer(body));
+        } finally {
+            close();
+        }
+    }
+
     @Override
     public String url() {
         return url;
@@ -73,11 +98,33 @@ class NettyHttpResponse implements HttpResponse {
 
     @Override
     public byte[] rawBody() {
-        return new byte[0];
+        return ByteBufUtil.getBytes(body);
+    }
+
+    @Override
+    public ByteBuf body() {
+        return body.asReadOnly();
+    }
+
+    /**
+     * The view is copied when the body was received in several chunks.
+     */
+    @Override
+    public ByteBuffer bodyAsByteBuffer() {
+        return body.nioBuffer().asReadOnlyBuffer();
+    }
+
+    @Override
+    public InputStream bodyAsInputStream() {
+        return new ByteBufInputStream(body.duplicate());
     }
 
     @Override
     public Multimap<String, String> headers() {
+        return toMultimap(headers);
+    }
+
+    static Multimap<String, String> toMultimap(HttpHeaders headers) {
         List<Tuple2<String, String>> httpHeaders = headers.entries().stream()
                 .map(entry -> Tuple.of(entry.getKey(), entry.getValue()))
                 .collect(Collectors.toList());
@@ -86,7 +133,22 @@ class NettyHttpResponse implements HttpResponse {
 
     @Override
     public String bodyAsString(Charset charset) {
-        return new String(body, charset);
+        return body.toString(charset);
+    }
+
+    @Override
+    public <T> T bodyAsJson(Charset charset, Gson gson, Class<T> clazz) {
+        return gson.fromJson(new InputStreamReader(bodyAsInputStream(), charset), clazz);
     }
 
+    @Override
+    public NettyHttpResponse touch(Object hint) {
+        body.touch(hint);
+        return this;
+    }
+
+    @Override
+    protected void deallocate() {
+        body.release();
+    }
 }
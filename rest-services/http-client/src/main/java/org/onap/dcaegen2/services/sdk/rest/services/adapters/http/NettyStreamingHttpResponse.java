@@ -0,0 +1,81 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.adapters.http;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpStatusClass;
+import io.vavr.collection.Multimap;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.http.client.HttpClientResponse;
+
+class NettyStreamingHttpResponse implements StreamingHttpResponse {
+
+    private final String url;
+    private final HttpClientResponse response;
+    private final ByteBufFlux body;
+
+    NettyStreamingHttpResponse(String url, HttpClientResponse response, ByteBufFlux body) {
+        this.url = url;
+        this.response = response;
+        this.body = body;
+    }
+
+    @Override
+    public String url() {
+        return url;
+    }
+
+    @Override
+    public int statusCode() {
+        return response.status().code();
+    }
+
+    @Override
+    public String statusReason() {
+        return response.status().reasonPhrase();
+    }
+
+    @Override
+    public boolean successful() {
+        return response.status().codeClass() == HttpStatusClass.SUCCESS;
+    }
+
+    @Override
+    public Multimap<String, String> headers() {
+        return NettyHttpResponse.toMultimap(response.responseHeaders());
+    }
+
+    @Override
+    public Flux<ByteBuf> body() {
+        return body;
+    }
+
+    @Override
+    public Mono<HttpResponse> aggregate() {
+        return body.aggregate().asByteArray()
+                .defaultIfEmpty(new byte[0])
+                .map(bytes -> new NettyHttpResponse(url, response, Unpooled.wrappedBuffer(bytes)));
+    }
+}
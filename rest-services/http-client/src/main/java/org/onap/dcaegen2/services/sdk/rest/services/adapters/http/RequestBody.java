@@ -23,11 +23,13 @@ package org.onap.dcaegen2.services.sdk.rest.services.adapters.http;
 import com.google.gson.JsonElement;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import org.immutables.value.Value;
 import org.jetbrains.annotations.Nullable;
 import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.netty.ByteBufFlux;
 import reactor.netty.ByteBufMono;
@@ -54,6 +56,13 @@ public interface RequestBody {
                 .build();
     }
 
+    static RequestBody chunkedFromBytes(Publisher<byte[]> contents) {
+        return ImmutableRequestBody.builder()
+                .length(null)
+                .contents(Flux.from(contents).map(Unpooled::wrappedBuffer))
+                .build();
+    }
+
     static RequestBody fromString(String contents) {
         return fromString(contents, StandardCharsets.UTF_8);
     }
@@ -69,4 +78,11 @@ public interface RequestBody {
         return fromString(contents.toString());
     }
 
+    static RequestBody fromBytes(byte[] contents) {
+        return ImmutableRequestBody.builder()
+                .length(contents.length)
+                .contents(Mono.fromSupplier(() -> Unpooled.wrappedBuffer(contents)))
+                .build();
+    }
+
 }
@@ -20,24 +20,38 @@
 
 package org.onap.dcaegen2.services.sdk.rest.services.adapters.http;
 
+import com.google.gson.JsonElement;
+import io.netty.buffer.Unpooled;
 import io.vavr.collection.Stream;
-import io.vavr.control.Option;
+import org.onap.dcaegen2.services.sdk.rest.services.adapters.http.exceptions.HttpException;
 import org.onap.dcaegen2.services.sdk.rest.services.adapters.http.exceptions.RetryableException;
 import org.onap.dcaegen2.services.sdk.rest.services.adapters.http.retry.RetryLogic;
 import org.onap.dcaegen2.services.sdk.rest.services.model.logging.RequestDiagnosticContext;
+import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.netty.ByteBufMono;
+import reactor.netty.Connection;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClient.RequestSender;
 import reactor.netty.http.client.HttpClient.ResponseReceiver;
 import reactor.netty.http.client.HttpClientRequest;
 import reactor.netty.http.client.HttpClientResponse;
+import reactor.util.context.Context;
+import reactor.util.retry.Retry;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
+ * <p>The underlying {@code HttpClient} is configured once. Headers, timeout and diagnostic context of a request are
+ * applied by hooks of that client, which read the request from the Reactor {@code Context} of the call, so a call
+ * does not configure a client of its own.</p>
+ *
  * @since 1.1.4
  */
 public class RxHttpClient {
@@ -47,7 +61,9 @@ public class RxHttpClient {
     private RetryLogic retryLogic;
 
     RxHttpClient(HttpClient httpClient) {
-        this.httpClient = Objects.requireNonNull(httpClient, "httpClient must not be null");
+        this.httpClient = Objects.requireNonNull(httpClient, "httpClient must not be null")
+                .doOnRequest(RxHttpClient::onRequest)
+                .doOnResponse(RxHttpClient::onResponse);
     }
 
     RxHttpClient(HttpClient httpClient, RetryLogic retryLogic) {
@@ -56,84 +72,190 @@ public class RxHttpClient {
     }
 
     public Mono<HttpResponse> call(HttpRequest request) {
-        Mono<HttpResponse> httpResponseMono = response(request);
-        return Option.of(retryLogic)
-                .map(rc -> rc.retry(request.diagnosticContext()))
-                .map(httpResponseMono::retryWhen)
-                .getOrElse(() -> httpResponseMono);
+        return withRetries(request, response(request));
     }
 
-    ResponseReceiver<?> prepareRequest(HttpRequest request) {
-        final HttpClient simpleClient = httpClient
-                .doOnRequest((req, conn) -> logRequest(request.diagnosticContext(), req))
-                .doOnResponse((rsp, conn) -> logResponse(request.diagnosticContext(), rsp))
-                .headers(hdrs -> request.headers().forEach(hdr -> hdrs.set(hdr._1, hdr._2)));
+    /**
+     * Calls the endpoint like {@link #call(HttpRequest)}, but without copying the body of the response onto the heap.
+     *
+     * <p>The response has to be released once its body has been read, see {@link BufferedHttpResponse}. Responses
+     * signalled in a {@link RetryableException} are copied and do not have to be released.</p>
+     *
+     * @since 1.9.5
+     */
+    public Mono<BufferedHttpResponse> callRetained(HttpRequest request) {
+        return withRetries(request, retainedResponse(request));
+    }
+
+    /**
+     * Calls the endpoint like {@link #callRetained(HttpRequest)} and maps the response with the given function,
+     * releasing it afterwards. The function must not keep the body nor any of its views.
+     *
+     * @since 1.9.5
+     */
+    public <T> Mono<T> call(HttpRequest request, Function<? super BufferedHttpResponse, ? extends T> responseMapper) {
+        return Mono.usingWhen(callRetained(request),
+                response -> Mono.fromCallable(() -> responseMapper.apply(response)),
+                response -> Mono.fromRunnable(response::close));
+    }
 
-        final HttpClient theClient = Option.of(request.timeout())
-                .map(simpleClient::responseTimeout)
-                .getOrElse(simpleClient);
+    private <T> Mono<T> withRetries(HttpRequest request, Mono<T> response) {
+        return retryLogic == null ? response : response.retryWhen(retryLogic.retry(request.diagnosticContext()));
+    }
+
+    /**
+     * Calls the endpoint expecting a JSON array in the body of the response, and emits the elements of the array as
+     * they are received, see {@link #streamDecoded(HttpRequest, BodyDecoder)} and {@link JsonArrayDecoder}.
+     *
+     * @since 1.9.5
+     */
+    public Flux<JsonElement> callForJsonArray(HttpRequest request) {
+        return streamDecoded(request, BodyDecoder.jsonArray());
+    }
+
+    /**
+     * Calls the endpoint and decodes the body of the response while it is being received, so only the item being
+     * decoded is held in memory.
+     *
+     * <p>Bodies of unsuccessful responses are not decoded, such responses are signalled as
+     * {@link RetryableException} when they should be retried, or as {@link HttpException} otherwise. A request is
+     * retried only until the first item is emitted, so no item is emitted twice.</p>
+     *
+     * @since 1.9.5
+     */
+    public <T> Flux<T> streamDecoded(HttpRequest request, BodyDecoder<T> decoder) {
+        return stream(request, response -> response.successful()
+                ? response.body(decoder)
+                : response.aggregate()
+                        .map(this::validatedResponse)
+                        .doOnNext(HttpResponse::throwIfUnsuccessful)
+                        .thenMany(Flux.<T>empty()));
+    }
+
+    /**
+     * Calls the endpoint and passes the response to the given handler as soon as its status and headers are
+     * received, so its body can be processed while it is being received.
+     *
+     * <p>The connection is held until the publisher returned by the handler terminates, so the body has to be
+     * received before. A request is retried, on the errors given by the retry configuration, only until the first
+     * item is emitted.</p>
+     *
+     * @return items emitted by the publisher returned by the handler
+     * @since 1.9.5
+     */
+    public <T> Flux<T> stream(HttpRequest request,
+                              Function<? super StreamingHttpResponse, ? extends Publisher<? extends T>> handler) {
+        final Flux<T> items = prepareRequest(request)
+                .response((resp, body) -> Flux.<T>from(
+                        handler.apply(new NettyStreamingHttpResponse(request.url(), resp, body))))
+                .contextWrite(requestContext(request));
+        if (retryLogic == null) {
+            return items;
+        }
+        return Flux.defer(() -> {
+            final AtomicBoolean emitted = new AtomicBoolean();
+            return items
+                    .doOnNext(item -> emitted.set(true))
+                    .retryWhen(untilEmitted(retryLogic.retry(request.diagnosticContext()), emitted));
+        });
+    }
+
+    private static Retry untilEmitted(Retry retry, AtomicBoolean emitted) {
+        return Retry.from(signals -> retry.generateCompanion(signals.handle((signal, sink) -> {
+            if (emitted.get()) {
+                sink.error(signal.failure());
+            } else {
+                sink.next(signal);
+            }
+        })));
+    }
+
+    /**
+     * The returned receiver has to be subscribed with the {@link #requestContext(HttpRequest)} of the request.
+     */
+    ResponseReceiver<?> prepareRequest(HttpRequest request) {
+        final RequestSender sender = httpClient.request(request.method().asNetty());
+        return request.body() == null
+                ? sender.uri(request.url())
+                : sender.send(request.body().contents()).uri(request.url());
+    }
 
-        return prepareBody(request, theClient);
+    private static Context requestContext(HttpRequest request) {
+        return Context.of(HttpRequest.class, request);
     }
 
     private Mono<HttpResponse> response(HttpRequest request) {
         return prepareRequest(request)
-                .responseSingle((resp, content) -> mapResponse(request.url(), resp, content));
+                .responseSingle((resp, content) -> mapResponse(request.url(), resp, content))
+                .contextWrite(requestContext(request));
+    }
+
+    private Mono<BufferedHttpResponse> retainedResponse(HttpRequest request) {
+        return prepareRequest(request)
+                .responseSingle((resp, content) -> content.retain()
+                        .defaultIfEmpty(Unpooled.EMPTY_BUFFER)
+                        .map(body -> validatedRetainedResponse(new NettyHttpResponse(request.url(), resp, body))))
+                .doOnDiscard(BufferedHttpResponse.class, BufferedHttpResponse::close)
+                .contextWrite(requestContext(request));
     }
 
     private Mono<HttpResponse> mapResponse(String url, HttpClientResponse response, ByteBufMono content) {
         return content.asByteArray()
                 .defaultIfEmpty(new byte[0])
-                .map(bytes -> new NettyHttpResponse(url, response, bytes))
+                .map(bytes -> new NettyHttpResponse(url, response, Unpooled.wrappedBuffer(bytes)))
                 .map(this::validatedResponse);
     }
 
-    private HttpResponse validatedResponse(HttpResponse response) {
+    private BufferedHttpResponse validatedRetainedResponse(NettyHttpResponse response) {
         if (shouldRetry(response.statusCode())) {
-            throw new RetryableException(response);
+            throw new RetryableException(response.detach());
         }
         return response;
     }
 
-    private boolean shouldRetry(int code) {
-        return Option.of(retryLogic)
-                .map(rc -> rc.shouldRetry(code))
-                .getOrElse(Boolean.FALSE);
-    }
-
-    private ResponseReceiver<?> prepareBody(HttpRequest request, HttpClient theClient) {
-        if (request.body() == null) {
-            return prepareBodyWithoutContents(request, theClient);
-        } else {
-            return request.body().length() == null
-                    ? prepareBodyChunked(request, theClient)
-                    : prepareBodyUnchunked(request, theClient);
+    private HttpResponse validatedResponse(HttpResponse response) {
+        if (shouldRetry(response.statusCode())) {
+            throw new RetryableException(response);
         }
+        return response;
     }
 
-    private ResponseReceiver<?> prepareBodyChunked(HttpRequest request, HttpClient theClient) {
-        return theClient
-                .headers(hdrs -> hdrs.set(HttpHeaders.TRANSFER_ENCODING_TYPE, HttpHeaders.CHUNKED))
-                .request(request.method().asNetty())
-                .send(request.body().contents())
-                .uri(request.url());
+    private boolean shouldRetry(int code) {
+        return retryLogic != null && retryLogic.shouldRetry(code);
     }
 
-    private ResponseReceiver<?> prepareBodyUnchunked(HttpRequest request, HttpClient theClient) {
-        return theClient
-                .headers(hdrs -> hdrs.set(HttpHeaders.CONTENT_LENGTH, request.body().length().toString()))
-                .request(request.method().asNetty())
-                .send(request.body().contents())
-                .uri(request.url());
+    private static void onRequest(HttpClientRequest httpClientRequest, Connection connection) {
+        final HttpRequest request = httpClientRequest.currentContextView().getOrDefault(HttpRequest.class, null);
+        if (request == null) {
+            return;
+        }
+        request.headers().forEach(httpClientRequest::header);
+        final RequestBody body = request.body();
+        if (body != null) {
+            if (body.length() == null) {
+                httpClientRequest.header(HttpHeaders.TRANSFER_ENCODING_TYPE, HttpHeaders.CHUNKED);
+            } else {
+                httpClientRequest.header(HttpHeaders.CONTENT_LENGTH, body.length().toString());
+            }
+        }
+        if (request.timeout() != null) {
+            httpClientRequest.responseTimeout(request.timeout());
+        }
+        if (LOGGER.isDebugEnabled()) {
+            logRequest(request.diagnosticContext(), httpClientRequest);
+        }
     }
 
-    private ResponseReceiver<?> prepareBodyWithoutContents(HttpRequest request, HttpClient theClient) {
-        return theClient
-                .request(request.method().asNetty())
-                .uri(request.url());
+    private static void onResponse(HttpClientResponse httpClientResponse, Connection connection) {
+        if (LOGGER.isDebugEnabled()) {
+            final HttpRequest request = httpClientResponse.currentContextView().getOrDefault(HttpRequest.class, null);
+            if (request != null) {
+                logResponse(request.diagnosticContext(), httpClientResponse);
+            }
+        }
     }
 
-    private void logRequest(RequestDiagnosticContext context, HttpClientRequest httpClientRequest) {
+    private static void logRequest(RequestDiagnosticContext context, HttpClientRequest httpClientRequest) {
         context.withSlf4jMdc(LOGGER.isDebugEnabled(), () -> {
             LOGGER.debug("Request: {} {} {}", httpClientRequest.method(), httpClientRequest.uri(),
                     httpClientRequest.requestHeaders());
@@ -146,7 +268,7 @@ public class RxHttpClient {
         });
     }
 
-    private void logResponse(RequestDiagnosticContext context, HttpClientResponse httpClientResponse) {
+    private static void logResponse(RequestDiagnosticContext context, HttpClientResponse httpClientResponse) {
         context.withSlf4jMdc(LOGGER.isDebugEnabled(),
                 () -> LOGGER.debug("Response status: {}", httpClientResponse.status()));
     }
@@ -41,10 +41,7 @@ public final class RxHttpClientFactory {
     }
 
     public static RxHttpClient create(RxHttpClientConfig config) {
-        HttpClient httpClient = Option.of(config.connectionPool())
-                .map(HttpClientFactory::create)
-                .getOrElse(HttpClientFactory::create);
-        return createWithConfig(httpClient, config);
+        return createWithConfig(HttpClientFactory.create(config), config);
     }
 
     public static RxHttpClient create(SecurityKeys securityKeys) {
@@ -52,10 +49,7 @@ public final class RxHttpClientFactory {
     }
 
     public static RxHttpClient create(SecurityKeys securityKeys, RxHttpClientConfig config) {
-        HttpClient httpClient = Option.of(config.connectionPool())
-                .map(connectionPoolConfig -> HttpClientFactory.create(securityKeys, connectionPoolConfig))
-                .getOrElse(() -> HttpClientFactory.create(securityKeys));
-        return createWithConfig(httpClient, config);
+        return createWithConfig(HttpClientFactory.create(securityKeys, config), config);
     }
 
     public static RxHttpClient create(TrustStoreKeys trustStoreKeys) {
@@ -63,10 +57,7 @@ public final class RxHttpClientFactory {
     }
 
     public static RxHttpClient create(TrustStoreKeys trustStoreKeys, RxHttpClientConfig config) {
-        HttpClient httpClient = Option.of(config.connectionPool())
-                .map(connectionPoolConfig -> HttpClientFactory.create(trustStoreKeys, connectionPoolConfig))
-                .getOrElse(() -> HttpClientFactory.create(trustStoreKeys));
-        return createWithConfig(httpClient, config);
+        return createWithConfig(HttpClientFactory.create(trustStoreKeys, config), config);
     }
 
     public static RxHttpClient createInsecure() {
@@ -74,10 +65,7 @@ public final class RxHttpClientFactory {
     }
 
     public static RxHttpClient createInsecure(RxHttpClientConfig config) {
-        HttpClient httpClient = Option.of(config.connectionPool())
-                .map(HttpClientFactory::createInsecure)
-                .getOrElse(HttpClientFactory::createInsecure);
-        return createWithConfig(httpClient, config);
+        return createWithConfig(HttpClientFactory.createInsecure(config), config);
     }
 
     private static RxHttpClient createWithConfig(HttpClient httpClient, RxHttpClientConfig config) {
@@ -0,0 +1,66 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.adapters.http;
+
+import io.netty.buffer.ByteBuf;
+import io.vavr.collection.Multimap;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Response whose status and headers are known before its body is received, see
+ * {@link RxHttpClient#stream(HttpRequest, java.util.function.Function)}.
+ *
+ * <p>The body can be received only once, before the publisher returned by the response handler terminates.</p>
+ *
+ * @since 1.9.5
+ */
+public interface StreamingHttpResponse {
+
+    String url();
+
+    int statusCode();
+
+    String statusReason();
+
+    boolean successful();
+
+    Multimap<String, String> headers();
+
+    /**
+     * @return chunks of the body as they are received; they are released once they were passed on, so they have to
+     *     be retained to be kept
+     */
+    Flux<ByteBuf> body();
+
+    /**
+     * @return items decoded from the body as it is received
+     */
+    default <T> Flux<T> body(BodyDecoder<T> decoder) {
+        return decoder.decode(body());
+    }
+
+    /**
+     * @return response holding the whole body, e.g. to read the body of an unsuccessful response
+     */
+    Mono<HttpResponse> aggregate();
+}
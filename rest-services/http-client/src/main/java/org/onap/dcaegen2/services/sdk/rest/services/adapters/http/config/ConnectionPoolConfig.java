@@ -20,9 +20,12 @@
 
 package org.onap.dcaegen2.services.sdk.rest.services.adapters.http.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.immutables.value.Value;
+import org.jetbrains.annotations.Nullable;
 
 import java.time.Duration;
+import java.util.List;
 
 @Value.Immutable
 public interface ConnectionPoolConfig {
@@ -30,4 +33,64 @@ public interface ConnectionPoolConfig {
     int connectionPool();
     Duration maxIdleTime();
     Duration maxLifeTime();
+
+    /**
+     * Name of the pool, used as the {@code name} tag of its metrics.
+     *
+     * @since 1.9.5
+     */
+    @Value.Default
+    default String name() {
+        return "fixed";
+    }
+
+    /**
+     * Maximum number of calls waiting for a connection when all {@link #connectionPool()} connections are in use.
+     * Further calls fail with {@code PoolAcquirePendingLimitException}. Reactor Netty default (twice the
+     * {@link #connectionPool()}) when not given, {@code -1} for no limit.
+     *
+     * @since 1.9.5
+     */
+    @Nullable Integer pendingAcquireMaxCount();
+
+    /**
+     * Maximum time a call waits for a connection, after which it fails with {@code PoolAcquireTimeoutException}.
+     * Reactor Netty default (45 seconds) when not given.
+     *
+     * @since 1.9.5
+     */
+    @Nullable Duration pendingAcquireTimeout();
+
+    /**
+     * @since 1.9.5
+     */
+    @Value.Default
+    default LeaseStrategy leaseStrategy() {
+        return LeaseStrategy.FIFO;
+    }
+
+    /**
+     * Interval of closing connections exceeding {@link #maxIdleTime()} or {@link #maxLifeTime()} in the background.
+     * When not given, they are closed only when found on acquire.
+     *
+     * @since 1.9.5
+     */
+    @Nullable Duration evictionInterval();
+
+    /**
+     * Remote hosts with limits of their own. The other settings of this pool apply to them as well.
+     *
+     * @since 1.9.5
+     */
+    List<HostConnectionPoolConfig> remoteHosts();
+
+    /**
+     * Registry receiving the gauges of the pool (total, active, idle and pending connections and their limits), per
+     * remote address, typically the one created by the MoHeR {@code MetricsFactory.createDefaultRegistry()}. No
+     * metrics are recorded when not given.
+     *
+     * @since 1.9.5
+     */
+    @Value.Auxiliary
+    @Nullable MeterRegistry meterRegistry();
 }
\ No newline at end of file
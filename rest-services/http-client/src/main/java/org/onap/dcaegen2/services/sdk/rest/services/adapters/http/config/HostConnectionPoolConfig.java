@@ -0,0 +1,48 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.adapters.http.config;
+
+import java.time.Duration;
+import org.immutables.value.Value;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Limits of the connections to a single remote host, overriding the ones of {@link ConnectionPoolConfig}.
+ *
+ * @since 1.9.5
+ */
+@Value.Immutable
+public interface HostConnectionPoolConfig {
+
+    /**
+     * Host name or address, as given in the request URLs.
+     */
+    String host();
+
+    int port();
+
+    int connectionPool();
+
+    @Nullable Integer pendingAcquireMaxCount();
+
+    @Nullable Duration pendingAcquireTimeout();
+}
@@ -0,0 +1,75 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.adapters.http.config;
+
+import org.immutables.value.Value;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Settings of HTTP/2 connections, used when {@link RxHttpClientConfig#protocol()} allows HTTP/2.
+ *
+ * <p>The number of connections to a single endpoint is limited by {@link ConnectionPoolConfig#connectionPool()},
+ * so concurrent calls beyond {@code connectionPool * maxConcurrentStreams} wait for a free stream.</p>
+ *
+ * @since 1.9.5
+ */
+@Value.Immutable
+public interface Http2Config {
+
+    /**
+     * Maximum number of concurrent streams (calls) opened on a single connection. A lower limit advertised by the
+     * server takes precedence.
+     */
+    @Value.Default
+    default long maxConcurrentStreams() {
+        return 100;
+    }
+
+    /**
+     * Flow-control window of a single stream in bytes, i.e. how much of a response the server may send before the
+     * client consumes it. Netty default (64 KiB) when not given.
+     */
+    @Nullable Integer initialStreamWindowSize();
+
+    /**
+     * Flow-control window of the whole connection in bytes, shared by all its streams. Reactor Netty default when
+     * not given. It should be large enough for the responses of all concurrent streams, otherwise they are throttled
+     * by each other.
+     */
+    @Nullable Integer connectionWindowSize();
+
+    @Value.Check
+    default void validate() {
+        if (maxConcurrentStreams() < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid value: %d, maxConcurrentStreams should be (1-n)", maxConcurrentStreams()));
+        }
+        if (initialStreamWindowSize() != null && initialStreamWindowSize() < 0) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid value: %d, initialStreamWindowSize should be (0-n)", initialStreamWindowSize()));
+        }
+        if (connectionWindowSize() != null && connectionWindowSize() < 0) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid value: %d, connectionWindowSize should be (0-n)", connectionWindowSize()));
+        }
+    }
+}
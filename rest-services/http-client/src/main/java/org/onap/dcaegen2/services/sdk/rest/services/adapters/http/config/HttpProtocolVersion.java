@@ -0,0 +1,52 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.adapters.http.config;
+
+/**
+ * HTTP version used by an {@code RxHttpClient}.
+ *
+ * @since 1.9.5
+ */
+public enum HttpProtocolVersion {
+
+    /**
+     * HTTP/1.1 only. Concurrent calls need separate connections.
+     */
+    HTTP_1_1,
+
+    /**
+     * HTTP/2 over TLS, negotiated with ALPN. Requires a secure client.
+     */
+    H2,
+
+    /**
+     * HTTP/2 over cleartext TCP with prior knowledge, i.e. the server has to accept HTTP/2 without an upgrade.
+     * Requires a client without TLS.
+     */
+    H2C,
+
+    /**
+     * HTTP/2 when the server supports it, HTTP/1.1 otherwise. A secure client negotiates the version with ALPN, a
+     * client without TLS sends an HTTP/1.1 request with an {@code Upgrade: h2c} header.
+     */
+    H2_WITH_FALLBACK
+}
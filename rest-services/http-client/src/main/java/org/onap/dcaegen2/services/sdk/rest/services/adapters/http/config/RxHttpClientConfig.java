@@ -27,4 +27,22 @@ import org.jetbrains.annotations.Nullable;
 public interface RxHttpClientConfig {
     @Nullable RetryConfig retryConfig();
     @Nullable ConnectionPoolConfig connectionPool();
+
+    /**
+     * @since 1.9.5
+     */
+    @Value.Default
+    default HttpProtocolVersion protocol() {
+        return HttpProtocolVersion.HTTP_1_1;
+    }
+
+    /**
+     * Settings of HTTP/2 connections, ignored for {@link HttpProtocolVersion#HTTP_1_1}.
+     *
+     * @since 1.9.5
+     */
+    @Value.Default
+    default Http2Config http2() {
+        return ImmutableHttp2Config.builder().build();
+    }
 }
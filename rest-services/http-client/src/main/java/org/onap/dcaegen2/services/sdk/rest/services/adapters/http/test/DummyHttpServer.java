@@ -28,6 +28,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Mono;
 import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.server.HttpServer;
 import reactor.netty.http.server.HttpServerResponse;
 import reactor.netty.http.server.HttpServerRoutes;
@@ -53,9 +54,17 @@ public class DummyHttpServer {
     }
 
     public static DummyHttpServer start(Consumer<HttpServerRoutes> routes) {
+        return start(routes, HttpProtocol.HTTP11);
+    }
+
+    /**
+     * @since 1.9.5
+     */
+    public static DummyHttpServer start(Consumer<HttpServerRoutes> routes, HttpProtocol... protocols) {
         LOGGER.info("Starting dummy server");
         final DisposableServer server = HttpServer.create()
                 .host("127.0.0.1")
+                .protocol(protocols)
                 .route(routes)
                 .bind()
                 .block();
@@ -0,0 +1,81 @@
+/*
+ * ============LICENSE_START====================================
+ * DCAEGEN2-SERVICES-SDK
+ * =========================================================
+ * Copyright (C) 2026 Deutsche Telekom AG. All rights reserved.
+ * =========================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=====================================
+ */
+
+
+package org.onap.dcaegen2.services.sdk.rest.services.adapters.http;
+
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+
+class NdJsonDecoderTest {
+
+    @Test
+    void decode_shouldEmitValuesOfLinesSplitAcrossChunks() {
+        // given
+        final Flux<ByteBuf> body = chunks("{\"message\":\"I\\nli", "ke\"}\r\n\n  \n\"cookies\"\n4", "2");
+
+        // when
+        // then
+        StepVerifier.create(NdJsonDecoder.decode(body))
+                .expectNext(JsonParser.parseString("{\"message\":\"I\\nlike\"}"))
+                .expectNext(JsonParser.parseString("\"cookies\""))
+                .expectNext(JsonParser.parseString("42"))
+                .verifyComplete();
+    }
+
+    @Test
+    void decode_shouldEmitValueAsSoonAsItsLineIsTerminated() {
+        // given
+        final Sinks.Many<ByteBuf> body = Sinks.many().unicast().onBackpressureBuffer();
+
+        // when
+        // then
+        StepVerifier.create(NdJsonDecoder.decode(body.asFlux()))
+                .then(() -> body.tryEmitNext(chunk("{\"message\":\"I\"}\n{")))
+                .expectNext(JsonParser.parseString("{\"message\":\"I\"}"))
+                .then(() -> body.tryEmitNext(chunk("\"message\":\"like\"}\n")))
+                .expectNext(JsonParser.parseString("{\"message\":\"like\"}"))
+                .then(body::tryEmitComplete)
+                .verifyComplete();
+    }
+
+    @Test
+    void decode_shouldFailWhenLineHoldsSeveralValues() {
+        StepVerifier.create(NdJsonDecoder.decode(chunks("1\n", "2 3\n")))
+                .expectNextCount(1)
+                .verifyError(JsonSyntaxException.class);
+    }
+
+    private static Flux<ByteBuf> chunks(String... chunks) {
+        return Flux.fromArray(chunks).map(NdJsonDecoderTest::chunk);
+    }
+
+    private static ByteBuf chunk(String text) {
+        return Unpooled.wrappedBuffer(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
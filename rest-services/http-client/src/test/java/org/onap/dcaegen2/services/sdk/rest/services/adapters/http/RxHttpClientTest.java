@@ -20,28 +20,46 @@
 
 package org.onap.dcaegen2.services.sdk.rest.services.adapters.http;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.timeout.ReadTimeoutException;
 import io.vavr.Tuple;
+import io.vavr.collection.HashMap;
 import io.vavr.collection.HashSet;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Test;
+import org.onap.dcaegen2.services.sdk.rest.services.adapters.http.config.HttpProtocolVersion;
 import org.onap.dcaegen2.services.sdk.rest.services.adapters.http.config.ImmutableConnectionPoolConfig;
+import org.onap.dcaegen2.services.sdk.rest.services.adapters.http.config.ImmutableHostConnectionPoolConfig;
+import org.onap.dcaegen2.services.sdk.rest.services.adapters.http.config.ImmutableHttp2Config;
 import org.onap.dcaegen2.services.sdk.rest.services.adapters.http.config.ImmutableRetryConfig;
 import org.onap.dcaegen2.services.sdk.rest.services.adapters.http.config.ImmutableRxHttpClientConfig;
+import org.onap.dcaegen2.services.sdk.rest.services.adapters.http.config.RxHttpClientConfig;
 import org.onap.dcaegen2.services.sdk.rest.services.adapters.http.exceptions.HttpException;
 import org.onap.dcaegen2.services.sdk.rest.services.adapters.http.exceptions.RetryableException;
 import org.onap.dcaegen2.services.sdk.rest.services.adapters.http.test.DummyHttpServer;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
 import reactor.test.StepVerifier;
 
 import java.net.ConnectException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.onap.dcaegen2.services.sdk.rest.services.adapters.http.test.DummyHttpServer.sendInOrderWithDelay;
 import static org.onap.dcaegen2.services.sdk.rest.services.adapters.http.test.DummyHttpServer.sendString;
 
@@ -53,6 +71,17 @@ class RxHttpClientTest {
     private static final int EXPECTED_REQUESTS_WHEN_RETRY = RETRY_COUNT + 1;
     private static final DummyHttpServer HTTP_SERVER = initialize();
     private static final DummyHttpServer DISPOSED_HTTP_SERVER = initialize().closeAndGet();
+    private static final AtomicInteger STREAMS_IN_FLIGHT = new AtomicInteger();
+    private static final AtomicInteger MAX_STREAMS_IN_FLIGHT = new AtomicInteger();
+    private static final DummyHttpServer H2C_SERVER = DummyHttpServer.start(routes -> routes
+            .get("/stream-get", (req, resp) -> sendString(resp, Mono.just(
+                    req.requestHeaders().get("x-http2-stream-id") + " " + req.remoteAddress().getPort())))
+            .get("/slow-stream-get", (req, resp) -> sendString(resp, Mono.fromCallable(() ->
+                            MAX_STREAMS_IN_FLIGHT.accumulateAndGet(STREAMS_IN_FLIGHT.incrementAndGet(), Math::max))
+                    .delayElement(Duration.ofMillis(200))
+                    .doOnNext(i -> STREAMS_IN_FLIGHT.decrementAndGet())
+                    .thenReturn("OK"))),
+            HttpProtocol.H2C, HttpProtocol.HTTP11);
     private static final Mono<String> OK = Mono.just("OK");
     private static final Duration RETRY_INTERVAL = Duration.ofMillis(1);
     private static AtomicInteger REQUEST_COUNTER;
@@ -62,6 +91,13 @@ class RxHttpClientTest {
                 .get("/sample-get", (req, resp) -> sendString(resp, OK))
                 .get("/delay-get", (req, resp) ->
                         sendInOrderWithDelay(REQUEST_COUNTER, Tuple.of(resp, 200, Duration.ofSeconds(3))))
+                .get("/sample-get-array", (req, resp) ->
+                        sendString(resp, Mono.just("[\"I\", {\"like\":\"cookies\"}]")))
+                .get("/sample-get-ndjson", (req, resp) -> resp
+                        .header("Content-Type", "application/x-ndjson")
+                        .sendString(Flux.just("{\"like\":", "\"cookies\"}\n", "\"I\"\n")))
+                .get("/slow-get", (req, resp) ->
+                        sendString(resp, Mono.delay(Duration.ofMillis(500)).thenReturn("OK")))
                 .get("/sample-get-500", (req, resp) -> resp.status(HttpResponseStatus.INTERNAL_SERVER_ERROR).send())
                 .get("/retry-get-500", (req, resp) ->
                         sendInOrderWithDelay(REQUEST_COUNTER,
@@ -82,6 +118,7 @@ class RxHttpClientTest {
     @AfterAll
     static void tearDownClass() {
         HTTP_SERVER.close();
+        H2C_SERVER.close();
     }
 
     @Test
@@ -123,6 +160,143 @@ class RxHttpClientTest {
                 .verify(TIMEOUT);
     }
 
+    @Test
+    void getJsonArray() throws Exception {
+        // given
+        final HttpRequest httpRequest = requestFor("/sample-get-array")
+                .method(HttpMethod.GET)
+                .build();
+        final RxHttpClient cut = RxHttpClientFactory.create();
+
+        // when
+        final Flux<JsonElement> elements = cut.callForJsonArray(httpRequest);
+
+        // then
+        StepVerifier.create(elements)
+                .expectNext(new JsonPrimitive("I"))
+                .expectNext(JsonParser.parseString("{\"like\":\"cookies\"}"))
+                .expectComplete()
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    void getRawBody() throws Exception {
+        // given
+        final HttpRequest httpRequest = requestFor("/sample-get")
+                .method(HttpMethod.GET)
+                .build();
+        final RxHttpClient cut = RxHttpClientFactory.create();
+
+        // when
+        final Mono<byte[]> rawBody = cut.call(httpRequest).map(HttpResponse::rawBody);
+
+        // then
+        StepVerifier.create(rawBody)
+                .expectNextMatches(body -> Arrays.equals(body, "OK".getBytes(StandardCharsets.UTF_8)))
+                .expectComplete()
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    void getRetainedBodyUntilResponseIsReleased() throws Exception {
+        // given
+        final HttpRequest httpRequest = requestFor("/sample-get")
+                .method(HttpMethod.GET)
+                .build();
+        final RxHttpClient cut = RxHttpClientFactory.create();
+
+        // when
+        final BufferedHttpResponse response = cut.callRetained(httpRequest).block(TIMEOUT);
+
+        // then
+        assertThat(response.body().toString(StandardCharsets.UTF_8)).isEqualTo("OK");
+        assertThat(response.body().isWritable()).isFalse();
+        assertThat(response.refCnt()).isOne();
+        response.close();
+        assertThat(response.refCnt()).isZero();
+    }
+
+    @Test
+    void getJsonFromBufferAndReleaseResponse() throws Exception {
+        // given
+        final HttpRequest httpRequest = requestFor("/sample-get-array")
+                .method(HttpMethod.GET)
+                .build();
+        final RxHttpClient cut = RxHttpClientFactory.create();
+        final List<BufferedHttpResponse> responses = new ArrayList<>();
+
+        // when
+        final Mono<JsonArray> body = cut.call(httpRequest, response -> {
+            responses.add(response);
+            return response.bodyAsJson(JsonArray.class);
+        });
+
+        // then
+        StepVerifier.create(body)
+                .expectNext(JsonParser.parseString("[\"I\", {\"like\":\"cookies\"}]").getAsJsonArray())
+                .expectComplete()
+                .verify(TIMEOUT);
+        assertThat(responses).hasSize(1);
+        assertThat(responses.get(0).refCnt()).isZero();
+    }
+
+    @Test
+    void streamNdJson() throws Exception {
+        // given
+        final HttpRequest httpRequest = requestFor("/sample-get-ndjson")
+                .method(HttpMethod.GET)
+                .build();
+        final RxHttpClient cut = RxHttpClientFactory.create();
+
+        // when
+        final Flux<JsonElement> elements = cut.streamDecoded(httpRequest, BodyDecoder.ndJson());
+
+        // then
+        StepVerifier.create(elements)
+                .expectNext(JsonParser.parseString("{\"like\":\"cookies\"}"))
+                .expectNext(new JsonPrimitive("I"))
+                .expectComplete()
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    void streamWithStatusAndHeadersBeforeBody() throws Exception {
+        // given
+        final HttpRequest httpRequest = requestFor("/sample-get-ndjson")
+                .method(HttpMethod.GET)
+                .build();
+        final RxHttpClient cut = RxHttpClientFactory.create();
+
+        // when
+        final Flux<String> received = cut.stream(httpRequest, response -> Flux.concat(
+                Mono.just(response.statusCode() + " " + response.headers().get("Content-Type").get().head()),
+                response.body().map(chunk -> chunk.toString(StandardCharsets.UTF_8)).reduce(String::concat)));
+
+        // then
+        StepVerifier.create(received)
+                .expectNext("200 application/x-ndjson")
+                .expectNext("{\"like\":\"cookies\"}\n\"I\"\n")
+                .expectComplete()
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    void getJsonArrayWithError() throws Exception {
+        // given
+        final HttpRequest httpRequest = requestFor("/sample-get-500")
+                .method(HttpMethod.GET)
+                .build();
+        final RxHttpClient cut = RxHttpClientFactory.create();
+
+        // when
+        final Flux<JsonElement> elements = cut.callForJsonArray(httpRequest);
+
+        // then
+        StepVerifier.create(elements)
+                .expectError(HttpException.class)
+                .verify(TIMEOUT);
+    }
+
     @Test
     void simplePost() throws Exception {
         // given
@@ -195,6 +369,32 @@ class RxHttpClientTest {
                 .verify(TIMEOUT);
     }
 
+    @Test
+    void customHeadersAreSentOnlyWithTheirRequest() throws Exception {
+        // given
+        final HttpRequest withHeader = requestFor("/headers-post")
+                .method(HttpMethod.POST)
+                .customHeaders(HashMap.of("X-Sample-Header", "sample-value"))
+                .build();
+        final HttpRequest withoutHeader = requestFor("/headers-post")
+                .method(HttpMethod.POST)
+                .build();
+        final RxHttpClient cut = RxHttpClientFactory.create();
+
+        // when
+        final Flux<String> bodiesAsString = Flux.concat(cut.call(withHeader), cut.call(withoutHeader))
+                .doOnNext(HttpResponse::throwIfUnsuccessful)
+                .map(HttpResponse::bodyAsString)
+                .map(String::toLowerCase);
+
+        // then
+        StepVerifier.create(bodiesAsString)
+                .consumeNextWith(responseBody -> assertThat(responseBody).contains("x-sample-header: sample-value"))
+                .consumeNextWith(responseBody -> assertThat(responseBody).doesNotContain("x-sample-header"))
+                .expectComplete()
+                .verify(TIMEOUT);
+    }
+
     @Test
     void getWithTimeoutError() throws Exception {
         // given
@@ -359,6 +559,172 @@ class RxHttpClientTest {
                 .verify(TIMEOUT);
     }
 
+    @Test
+    void callsExceedingPendingLimitOfRemoteHostFail() throws Exception {
+        // given
+        final HttpRequest httpRequest = requestFor("/slow-get")
+                .method(HttpMethod.GET)
+                .build();
+        final RxHttpClient cut = RxHttpClientFactory.create(ImmutableRxHttpClientConfig.builder()
+                .connectionPool(ImmutableConnectionPoolConfig.builder()
+                        .from(defaultConnectionPoolConfig())
+                        .connectionPool(10)
+                        .addRemoteHosts(ImmutableHostConnectionPoolConfig.builder()
+                                .host(HTTP_SERVER.host())
+                                .port(HTTP_SERVER.port())
+                                .connectionPool(1)
+                                .pendingAcquireMaxCount(1)
+                                .build())
+                        .build())
+                .build());
+
+        // when
+        final Flux<HttpResponse> responses = Flux.range(0, 3).flatMap(i -> cut.call(httpRequest));
+
+        // then
+        StepVerifier.create(responses)
+                .expectErrorMatches(error -> error.getClass().getSimpleName().equals("PoolAcquirePendingLimitException"))
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    void connectionPoolGaugesAreRegistered() throws Exception {
+        // given
+        final MeterRegistry registry = new SimpleMeterRegistry();
+        final HttpRequest httpRequest = requestFor("/sample-get")
+                .method(HttpMethod.GET)
+                .build();
+        final RxHttpClient cut = RxHttpClientFactory.create(ImmutableRxHttpClientConfig.builder()
+                .connectionPool(ImmutableConnectionPoolConfig.builder()
+                        .from(defaultConnectionPoolConfig())
+                        .name("metered")
+                        .meterRegistry(registry)
+                        .build())
+                .build());
+
+        // when
+        final Mono<HttpResponse> response = cut.call(httpRequest);
+
+        // then
+        StepVerifier.create(response)
+                .expectNextCount(1)
+                .expectComplete()
+                .verify(TIMEOUT);
+        assertThat(registry.get("reactor.netty.connection.provider.total.connections")
+                .tag("name", "metered")
+                .gauge()
+                .value()).isEqualTo(1.0);
+        assertThat(registry.get("reactor.netty.connection.provider.max.connections")
+                .tag("name", "metered")
+                .gauge()
+                .value()).isEqualTo(1.0);
+    }
+
+    @Test
+    void h2cCallsShareSingleConnection() throws Exception {
+        // given
+        final HttpRequest httpRequest = ImmutableHttpRequest.builder()
+                .url(new URL("http", H2C_SERVER.host(), H2C_SERVER.port(), "/stream-get").toString())
+                .method(HttpMethod.GET)
+                .build();
+        final RxHttpClient cut = RxHttpClientFactory.create(ImmutableRxHttpClientConfig.builder()
+                .connectionPool(defaultConnectionPoolConfig())
+                .protocol(HttpProtocolVersion.H2C)
+                .http2(ImmutableHttp2Config.builder()
+                        .initialStreamWindowSize(1024 * 1024)
+                        .connectionWindowSize(16 * 1024 * 1024)
+                        .build())
+                .build());
+
+        // when
+        final Mono<List<String>> streamsAndClientPorts = Flux.range(0, 10)
+                .flatMap(i -> cut.call(httpRequest))
+                .doOnNext(HttpResponse::throwIfUnsuccessful)
+                .map(HttpResponse::bodyAsString)
+                .collectList();
+
+        // then
+        StepVerifier.create(streamsAndClientPorts)
+                .consumeNextWith(responses -> {
+                    assertThat(responses.stream().map(response -> response.split(" ")[0]).distinct()).hasSize(10);
+                    assertThat(responses.stream().map(response -> response.split(" ")[1]).distinct()).hasSize(1);
+                })
+                .expectComplete()
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    void h2cRemoteHostPoolLimitsConcurrentStreamsPerConnection() throws Exception {
+        // given
+        MAX_STREAMS_IN_FLIGHT.set(0);
+        final HttpRequest httpRequest = ImmutableHttpRequest.builder()
+                .url(new URL("http", H2C_SERVER.host(), H2C_SERVER.port(), "/slow-stream-get").toString())
+                .method(HttpMethod.GET)
+                .build();
+        final RxHttpClient cut = RxHttpClientFactory.create(ImmutableRxHttpClientConfig.builder()
+                .connectionPool(ImmutableConnectionPoolConfig.builder()
+                        .from(defaultConnectionPoolConfig())
+                        .connectionPool(10)
+                        .addRemoteHosts(ImmutableHostConnectionPoolConfig.builder()
+                                .host(H2C_SERVER.host())
+                                .port(H2C_SERVER.port())
+                                .connectionPool(2)
+                                .pendingAcquireMaxCount(10)
+                                .build())
+                        .build())
+                .protocol(HttpProtocolVersion.H2C)
+                .http2(ImmutableHttp2Config.builder()
+                        .maxConcurrentStreams(1)
+                        .build())
+                .build());
+
+        // when
+        final Flux<HttpResponse> responses = Flux.range(0, 6)
+                .flatMap(i -> cut.call(httpRequest))
+                .doOnNext(HttpResponse::throwIfUnsuccessful);
+
+        // then
+        StepVerifier.create(responses)
+                .expectNextCount(6)
+                .expectComplete()
+                .verify(TIMEOUT);
+        assertThat(MAX_STREAMS_IN_FLIGHT.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void h2WithFallbackUsesHttp11WhenServerDoesNotSupportHttp2() throws Exception {
+        // given
+        final HttpRequest httpRequest = requestFor("/sample-get")
+                .method(HttpMethod.GET)
+                .build();
+        final RxHttpClient cut = RxHttpClientFactory.create(ImmutableRxHttpClientConfig.builder()
+                .protocol(HttpProtocolVersion.H2_WITH_FALLBACK)
+                .build());
+
+        // when
+        final Mono<String> bodyAsString = cut.call(httpRequest)
+                .doOnNext(HttpResponse::throwIfUnsuccessful)
+                .map(HttpResponse::bodyAsString);
+
+        // then
+        StepVerifier.create(bodyAsString)
+                .expectNext("OK")
+                .expectComplete()
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    void h2RequiresSecureClient() {
+        // given
+        final RxHttpClientConfig config = ImmutableRxHttpClientConfig.builder()
+                .protocol(HttpProtocolVersion.H2)
+                .build();
+
+        // when / then
+        assertThatThrownBy(() -> RxHttpClientFactory.create(config))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     private ImmutableHttpRequest.Builder requestFor(String path) throws MalformedURLException {
         return ImmutableHttpRequest.builder()
                 .url(new URL("http", HTTP_SERVER.host(), HTTP_SERVER.port(), path).toString());
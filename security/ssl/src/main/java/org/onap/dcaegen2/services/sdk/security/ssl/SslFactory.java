@@ -20,6 +20,7 @@
 
 package org.onap.dcaegen2.services.sdk.security.ssl;
 
+import io.netty.handler.ssl.ApplicationProtocolConfig;
 import io.netty.handler.ssl.ClientAuth;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
@@ -53,10 +54,24 @@ public class SslFactory {
      * @return configured SSL context
      */
     public SslContext createSecureClientContext(final SecurityKeys keys) {
+        return createSecureClientContext(keys, ApplicationProtocolConfig.DISABLED);
+    }
+
+    /**
+     * Creates Netty SSL <em>client</em> context using provided security keys and application protocol negotiation.
+     *
+     * @param keys - Security keys to be used
+     * @param applicationProtocolConfig - ALPN configuration, e.g. to negotiate HTTP/2
+     * @return configured SSL context
+     * @since 1.9.5
+     */
+    public SslContext createSecureClientContext(final SecurityKeys keys,
+            final ApplicationProtocolConfig applicationProtocolConfig) {
         try {
             return SslContextBuilder.forClient()
                     .keyManager(keyManagerFactory(keys))
                     .trustManager(trustManagerFactory(keys))
+                    .applicationProtocolConfig(applicationProtocolConfig)
                     .build();
         } catch (SSLException e) {
             throw new SecurityConfigurationException(EXCEPTION_MESSAGE, e);
@@ -70,9 +85,23 @@ public class SslFactory {
      * @return configured SSL context
      */
     public SslContext createSecureClientContext(final TrustStoreKeys keys) {
+        return createSecureClientContext(keys, ApplicationProtocolConfig.DISABLED);
+    }
+
+    /**
+     * Creates Netty SSL <em>client</em> context using provided TrustStore keys and application protocol negotiation.
+     *
+     * @param keys - TrustStore keys to be used
+     * @param applicationProtocolConfig - ALPN configuration, e.g. to negotiate HTTP/2
+     * @return configured SSL context
+     * @since 1.9.5
+     */
+    public SslContext createSecureClientContext(final TrustStoreKeys keys,
+            final ApplicationProtocolConfig applicationProtocolConfig) {
         try {
             return SslContextBuilder.forClient()
                     .trustManager(trustManagerFactory(keys))
+                    .applicationProtocolConfig(applicationProtocolConfig)
                     .build();
         } catch (SSLException e) {
             throw new SecurityConfigurationException(EXCEPTION_MESSAGE, e);
@@ -115,9 +144,22 @@ public class SslFactory {
      */
     @Deprecated
     public SslContext createInsecureClientContext() {
+        return createInsecureClientContext(ApplicationProtocolConfig.DISABLED);
+    }
+
+    /**
+     * Function for creating insecure SSL context with application protocol negotiation. Do not use in production,
+     * the context will trust anyone.
+     *
+     * @param applicationProtocolConfig - ALPN configuration, e.g. to negotiate HTTP/2
+     * @return configured insecure ssl context
+     * @since 1.9.5
+     */
+    public SslContext createInsecureClientContext(final ApplicationProtocolConfig applicationProtocolConfig) {
         try {
             return SslContextBuilder.forClient()
                     .trustManager(InsecureTrustManagerFactory.INSTANCE)
+                    .applicationProtocolConfig(applicationProtocolConfig)
                     .build();
         } catch (SSLException e) {
             throw new SecurityConfigurationException(EXCEPTION_MESSAGE, e);